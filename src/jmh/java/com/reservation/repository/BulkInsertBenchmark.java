@@ -0,0 +1,138 @@
+package com.reservation.repository;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * 대량 INSERT 처리량 비교 (1 회 = rowCount 행 저장)
+ * IDENTITY: 행마다 INSERT 후 생성된 키를 받아야 해서 배치 없이 한 행씩 전송
+ * 풀링 시퀀스: ID 를 allocationSize 만큼 미리 받아 두고 batch_size 개씩 JDBC 배치로 전송
+ * H2 인메모리 DB 라 네트워크 왕복이 없으므로 실제 MySQL 에서는 차이가 더 큼
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkInsertBenchmark {
+
+    @Param({"1000"})
+    private int rowCount;
+
+    @Param({"50"})
+    private int batchSize;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(SequenceRow.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:bulk-insert;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteRows() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("DELETE FROM IdentityRow").executeUpdate();
+            session.createMutationQuery("DELETE FROM SequenceRow").executeUpdate();
+        });
+    }
+
+    @Benchmark
+    public void identity() {
+        insert(i -> new IdentityRow("store-" + i, "address-" + i, LocalDateTime.now()));
+    }
+
+    @Benchmark
+    public void pooledSequence() {
+        insert(i -> new SequenceRow("store-" + i, "address-" + i, LocalDateTime.now()));
+    }
+
+    /**
+     * batch_size 마다 flush, clear 해서 영속성 컨텍스트가 커지지 않도록 저장
+     */
+    private void insert(IntFunction<Object> rowOf) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+
+            for (int i = 0; i < rowCount; i++) {
+                session.persist(rowOf.apply(i));
+
+                if ((i + 1) % batchSize == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+
+            transaction.commit();
+        }
+    }
+
+    @Entity(name = "IdentityRow")
+    public static class IdentityRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        private String storeName;
+        private String storeAddress;
+        private LocalDateTime createdAt;
+
+        protected IdentityRow() {
+        }
+
+        IdentityRow(String storeName, String storeAddress, LocalDateTime createdAt) {
+            this.storeName = storeName;
+            this.storeAddress = storeAddress;
+            this.createdAt = createdAt;
+        }
+    }
+
+    @Entity(name = "SequenceRow")
+    public static class SequenceRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequence_row_seq")
+        @SequenceGenerator(name = "sequence_row_seq", sequenceName = "sequence_row_seq", allocationSize = 50)
+        private Long id;
+
+        private String storeName;
+        private String storeAddress;
+        private LocalDateTime createdAt;
+
+        protected SequenceRow() {
+        }
+
+        SequenceRow(String storeName, String storeAddress, LocalDateTime createdAt) {
+            this.storeName = storeName;
+            this.storeAddress = storeAddress;
+            this.createdAt = createdAt;
+        }
+    }
+}
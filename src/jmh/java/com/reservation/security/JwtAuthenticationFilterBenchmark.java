@@ -0,0 +1,80 @@
+package com.reservation.security;
+
+import com.reservation.ReservationApplication;
+import com.reservation.domain.Member;
+import com.reservation.repository.MemberRepository;
+import com.reservation.type.Role;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 처리량 비교
+ * MEMBER_LOOKUP (요청마다 회원 조회) vs CLAIMS (토큰 claim 만 사용)
+ * local 프로필(H2 인메모리)로 띄우므로 실제 MySQL 왕복 비용은 포함되지 않음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"MEMBER_LOOKUP", "CLAIMS"})
+    private String authenticationMode;
+
+    private ConfigurableApplicationContext context;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ReservationApplication.class)
+                .profiles("local")
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "spring.jwt.authentication-mode=" + authenticationMode
+                )
+                .run();
+
+        Member member = context.getBean(MemberRepository.class).save(
+                Member.builder()
+                        .username("benchmark")
+                        .password("password")
+                        .phoneNumber("010-0000-0000")
+                        .role(Role.USER)
+                        .build()
+        );
+
+        String token = context.getBean(TokenProvider.class)
+                .generateTokens(member.getId(), member.getUsername(), member.getRole())
+                .getAccessToken();
+
+        authorizationHeader = JwtAuthenticationFilter.TOKEN_PREFIX + token;
+        jwtAuthenticationFilter = context.getBean(JwtAuthenticationFilter.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Authentication doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stores");
+        request.addHeader(JwtAuthenticationFilter.TOKEN_HEADER, authorizationHeader);
+
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
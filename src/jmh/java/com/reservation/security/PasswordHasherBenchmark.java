@@ -0,0 +1,50 @@
+package com.reservation.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 로그인 처리량 비교 (BCrypt 강도별)
+ * 요청 스레드에서 바로 확인 vs CPU 코어 수 만큼의 전용 스레드에서 확인
+ * 요청 스레드 수(@Threads)가 코어 수보다 많을 때의 처리량 차이를 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class PasswordHasherBenchmark {
+
+    private static final String RAW_PASSWORD = "benchmark-password";
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        passwordHasher = new PasswordHasher(passwordEncoder, new SimpleMeterRegistry(), 0, 1024);
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Benchmark
+    public boolean inline() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public boolean boundedExecutor() {
+        return passwordHasher.matches(RAW_PASSWORD, encodedPassword).join();
+    }
+}
@@ -0,0 +1,63 @@
+package com.reservation.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 토큰 검증 비용 비교
+ * 기존 방식(요청마다 파서 생성, 두 번 파싱) vs 재사용 파서로 한 번 파싱 vs 검증 결과 캐시
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenVerifierBenchmark {
+
+    private static final String SECRET = "benchmark-jwt-secret";
+
+    private TokenVerifier parseOnceVerifier;
+    private TokenVerifier cachedVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        parseOnceVerifier = new TokenVerifier(SECRET, Duration.ZERO, 0);
+        cachedVerifier = new TokenVerifier(SECRET, Duration.ofSeconds(30), 10_000);
+
+        token = Jwts.builder()
+                .claim("role", "USER")
+                .claim("memberId", 1L)
+                .setSubject("benchmark")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(SignatureAlgorithm.HS256, parseOnceVerifier.getSigningKey())
+                .compact();
+    }
+
+    @Benchmark
+    public String parseTwice() {
+        // 기존 validateToken + getUsername 흐름
+        Claims validated = Jwts.parser().setSigningKey(parseOnceVerifier.getSigningKey())
+                .parseClaimsJws(token).getBody();
+        if (validated.getExpiration().before(new Date())) {
+            return null;
+        }
+        return Jwts.parser().setSigningKey(parseOnceVerifier.getSigningKey())
+                .parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String parseOnce() {
+        return parseOnceVerifier.verify(token).getSubject();
+    }
+
+    @Benchmark
+    public String cachedDigest() {
+        return cachedVerifier.verify(token).getSubject();
+    }
+}
@@ -0,0 +1,68 @@
+package com.reservation.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 거리순 가게 목록 조회 비교
+ * 전체 목록 sorted() 후 앞 limit 개 vs 격자 인덱스의 top-K 선택
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreDistanceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int storeCount;
+
+    @Param({"20"})
+    private int limit;
+
+    private final double userLat = 37.5665;
+    private final double userLng = 126.9780;
+
+    private List<double[]> stores;
+    private StoreGeoIndex storeGeoIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        stores = new ArrayList<>(storeCount);
+        storeGeoIndex = new StoreGeoIndex(null, 0.01);
+
+        for (long id = 1; id <= storeCount; id++) {
+            // 대한민국 범위 안의 임의 좌표
+            double lat = 33.0 + random.nextDouble() * 5.5;
+            double lng = 124.5 + random.nextDouble() * 7.0;
+
+            stores.add(new double[]{id, lat, lng});
+            storeGeoIndex.put(id, lat, lng);
+        }
+    }
+
+    @Benchmark
+    public List<double[]> fullSort() {
+        return stores.stream()
+                .sorted(Comparator.comparingDouble(store -> StoreGeoIndex.distanceKm(
+                        userLat, userLng, store[1], store[2]
+                )))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<StoreGeoIndex.Neighbor> indexTopK() {
+        return storeGeoIndex.findNearest(userLat, userLng, limit);
+    }
+
+    @Benchmark
+    public List<StoreGeoIndex.Neighbor> indexWithinRadius() {
+        return storeGeoIndex.findWithinRadius(userLat, userLng, 5.0, limit);
+    }
+}
@@ -0,0 +1,60 @@
+package com.reservation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * JPA, Flyway 등 일반 조회, 변경용 커넥션 풀 (spring.datasource.hikari)
+     * @param dataSourceProperties
+     * @return HikariDataSource
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    /**
+     * 스트리밍 조회(NDJSON) 전용 읽기 커넥션 풀 (spring.datasource.streaming.hikari)
+     * 스트림은 응답을 다 보낼 때까지 커넥션을 잡고 있으므로 일반 풀과 나눠서 동시 스트림 수를 풀 크기로 제한
+     * (풀이 가득 차면 connection-timeout 만큼만 기다리고 실패)
+     * 서버 커서(useCursorFetch) 같은 스트리밍 전용 옵션은 streaming.url 에만 지정
+     * @param dataSourceProperties
+     * @param url
+     * @return HikariDataSource
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.streaming.hikari")
+    public HikariDataSource streamingDataSource(
+            DataSourceProperties dataSourceProperties,
+            @Value("${spring.datasource.streaming.url:${spring.datasource.url}}") String url
+    ) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        dataSource.setPoolName("streaming");
+        dataSource.setMaximumPoolSize(4);
+        dataSource.setConnectionTimeout(1_000);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,40 @@
+package com.reservation.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class KakaoClientConfig {
+
+    /**
+     * 카카오 API 호출용 HTTP 클라이언트
+     * 연결을 재사용(풀링)하고, 응답은 전용 스레드에서 비동기로 처리
+     * @param connectTimeout
+     * @param threads
+     * @return HttpClient
+     */
+    @Bean
+    public HttpClient kakaoHttpClient(
+            @Value("${spring.kakao.client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${spring.kakao.client.threads:4}") int threads
+    ) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "kakao-http-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        return HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .executor(executor)
+                .build();
+    }
+}
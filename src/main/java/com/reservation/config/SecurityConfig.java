@@ -1,7 +1,9 @@
 package com.reservation.config;
 
 import com.reservation.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
@@ -36,7 +38,10 @@ public class SecurityConfig {
                 .sessionManagement(sessionManagement ->
                         sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 관리 정책 설정
                 .authorizeHttpRequests(authorize -> authorize
-                        .requestMatchers("/api/v1/members/register", "/api/v1/members/login").permitAll()  // 누구나 접근 가능한 URL
+                        // 비동기 응답(CompletableFuture, 스트리밍)의 ASYNC 재디스패치, 오류 페이지 디스패치는 허용
+                        // (최초 REQUEST 디스패치에서 이미 인증, 인가를 마쳤고 JWT 필터는 요청당 한 번만 실행)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                        .requestMatchers("/api/v1/members/register", "/api/v1/members/login", "/api/v1/members/refresh").permitAll()  // 누구나 접근 가능한 URL
                         .anyRequest().authenticated()  // 그 외의 모든 요청은 인증 필요
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -46,10 +51,14 @@ public class SecurityConfig {
 
     /**
      * 비밀번호 암호화를 위한 BCryptPasswordEncoder 사용
+     * 강도(cost)를 바꾸면 기존 비밀번호는 다음 로그인 때 새 강도로 다시 암호화
+     * @param strength
      * @return PasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${spring.password-hashing.strength:10}") int strength
+    ) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
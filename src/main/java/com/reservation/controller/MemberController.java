@@ -1,10 +1,10 @@
 package com.reservation.controller;
 
-import com.reservation.domain.Member;
 import com.reservation.dto.member.MemberDto;
 import com.reservation.dto.member.SignInDto;
 import com.reservation.dto.member.SignUpDto;
 import com.reservation.dto.member.UpdateMemberDto;
+import com.reservation.security.JwtAuthenticationFilter;
 import com.reservation.security.TokenProvider;
 import com.reservation.service.MemberService;
 import jakarta.validation.Valid;
@@ -12,6 +12,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/members")
@@ -23,10 +25,10 @@ public class MemberController {
     /**
      * 회원 가입
      * @param request
-     * @return CreateMemberDTO.Response
+     * @return CompletableFuture<MemberDto>
      */
     @PostMapping("/register")
-    public MemberDto memberRegister(
+    public CompletableFuture<MemberDto> memberRegister(
             @RequestBody @Valid SignUpDto.Request request
     ) {
         return memberService.createMember(request);
@@ -34,21 +36,50 @@ public class MemberController {
 
     /**
      * 로그인
+     * 비밀번호 확인이 끝나면 액세스 토큰, 리프레시 토큰 응답 (요청 스레드는 기다리지 않음)
      * @param request
-     * @return SignInDto.Response
+     * @return CompletableFuture<SignInDto.Response>
      */
     @PostMapping("/login")
-    public SignInDto.Response memberSignIn(
+    public CompletableFuture<SignInDto.Response> memberSignIn(
             @RequestBody @Valid SignInDto.Request request
     ) {
-        Member authenticatedMember = memberService.authenticate(request);
-        String token = tokenProvider.generateToken(
-                authenticatedMember.getUsername(), authenticatedMember.getRole()
-        );
+        return memberService.authenticate(request)
+                .thenApply(authenticatedMember -> tokenProvider.generateTokens(
+                        authenticatedMember.getId(),
+                        authenticatedMember.getUsername(),
+                        authenticatedMember.getRole()
+                ));
+    }
+
+    /**
+     * 리프레시 토큰으로 토큰 재발급
+     * @param request
+     * @return SignInDto.Response
+     */
+    @PostMapping("/refresh")
+    public SignInDto.Response refreshToken(
+            @RequestBody @Valid SignInDto.RefreshRequest request
+    ) {
+        return tokenProvider.refreshTokens(request.getRefreshToken());
+    }
 
-        return SignInDto.Response.builder()
-                .accessToken(token)
-                .build();
+    /**
+     * 로그아웃 (현재 액세스 토큰, 리프레시 토큰 폐기)
+     * @param authorization
+     * @param request
+     * @return ResponseEntity<String>
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<String> memberSignOut(
+            @RequestHeader(JwtAuthenticationFilter.TOKEN_HEADER) String authorization,
+            @RequestBody(required = false) SignInDto.RefreshRequest request
+    ) {
+        tokenProvider.revokeTokens(
+                authorization.substring(JwtAuthenticationFilter.TOKEN_PREFIX.length()),
+                request == null ? null : request.getRefreshToken()
+        );
+        return ResponseEntity.ok("정상적으로 로그아웃 되었습니다.");
     }
 
     /**
@@ -67,10 +98,10 @@ public class MemberController {
      * 특정 유저 정보 수정
      * @param userId
      * @param updateRequest
-     * @return MemberDto
+     * @return CompletableFuture<MemberDto>
      */
     @PatchMapping("/{userId}")
-    public MemberDto updateMember(
+    public CompletableFuture<MemberDto> updateMember(
             @PathVariable Long userId,
             @RequestBody @Valid UpdateMemberDto updateRequest
             ) {
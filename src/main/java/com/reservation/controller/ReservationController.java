@@ -1,13 +1,18 @@
 package com.reservation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reservation.dto.reservation.ReservationDto;
 import com.reservation.dto.reservation.UpdateReservationDto;
 import com.reservation.service.ReservationService;
+import com.reservation.service.StoreService;
+import com.reservation.util.NdjsonWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,6 +23,8 @@ import java.util.List;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final StoreService storeService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 예약 등록 신청
@@ -43,12 +50,58 @@ public class ReservationController {
             @RequestParam(required = false) String date
     ) {
         LocalDate localDate = null;
-        if (!date.isEmpty()) {
+        if (date != null && !date.isEmpty()) {
             localDate = LocalDate.parse(date);
         }
         return reservationService.getReservationsByStoreId(storeId, localDate);
     }
 
+    /**
+     * 특정 가게에 대한 예약 목록 요약 조회 (view=summary)
+     * 가게, 점주 정보를 반복하지 않고 예약, 예약자 정보만 응답
+     * @param storeId
+     * @return List<ReservationDto.Summary>
+     */
+    @GetMapping(value = "/store/{storeId}", params = "view=summary")
+    @PreAuthorize("hasRole('OWNER')")
+    public List<ReservationDto.Summary> reservationSummaryList(
+            @PathVariable Long storeId,
+            @RequestParam(required = false) String date
+    ) {
+        LocalDate localDate = null;
+        if (date != null && !date.isEmpty()) {
+            localDate = LocalDate.parse(date);
+        }
+        return reservationService.getReservationSummariesByStoreId(storeId, localDate);
+    }
+
+    /**
+     * 특정 가게에 대한 예약 요약 목록 스트리밍 (NDJSON, 한 줄에 예약 하나)
+     * 목록을 메모리에 모으지 않고 DB 에서 읽는 대로 응답으로 전송
+     * 가게가 없으면 전송을 시작하기 전에 오류 응답
+     * @param storeId
+     * @return StreamingResponseBody
+     */
+    @GetMapping(value = "/store/{storeId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('OWNER')")
+    public StreamingResponseBody reservationStream(
+            @PathVariable Long storeId,
+            @RequestParam(required = false) String date
+    ) {
+        LocalDate localDate = null;
+        if (date != null && !date.isEmpty()) {
+            localDate = LocalDate.parse(date);
+        }
+        LocalDate reservationDate = localDate;
+        storeService.getStoreById(storeId);
+
+        return outputStream -> {
+            try (NdjsonWriter<ReservationDto.Summary> writer = new NdjsonWriter<>(objectMapper, outputStream)) {
+                reservationService.streamReservationSummariesByStoreId(storeId, reservationDate, writer);
+            }
+        };
+    }
+
     /**
      * 특정 예약 정보 조회
      * @param reservationId
@@ -58,9 +111,7 @@ public class ReservationController {
     public ReservationDto.Response reservationDetails(
             @PathVariable Long reservationId
     ) {
-        return ReservationDto.Response.fromEntity(
-                reservationService.getReservationById(reservationId)
-        );
+        return reservationService.getReservationDetails(reservationId);
     }
 
     /**
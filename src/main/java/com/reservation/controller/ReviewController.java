@@ -1,15 +1,22 @@
 package com.reservation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.dto.CursorResponse;
 import com.reservation.dto.review.ReviewDto;
 import com.reservation.dto.review.UpdateReviewDto;
+import com.reservation.service.MemberService;
 import com.reservation.service.ReviewService;
+import com.reservation.service.StoreService;
+import com.reservation.util.ConditionalRequestUtils;
+import com.reservation.util.NdjsonWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -17,6 +24,9 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final StoreService storeService;
+    private final MemberService memberService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 리뷰 등록
@@ -32,40 +42,144 @@ public class ReviewController {
     }
 
     /**
-     * 특정 가게에 대한 리뷰 목록 조회
+     * 특정 가게에 대한 리뷰 목록 조회 (최신, 평점순 정렬)
+     * 커서 기반으로 limit 개씩 조회하고, 다음 페이지는 응답의 nextCursor 로 조회
+     * 리뷰 목록이 바뀌지 않았다면 목록 조회 없이 304 응답
      * @param storeId
-     * @return
+     * @return CursorResponse<ReviewDto.Response>
      */
     @GetMapping("/store/{storeId}")
-    public List<ReviewDto.Response> reviewListByStoreId(
-            @PathVariable @Valid Long storeId
+    public CursorResponse<ReviewDto.Response> reviewListByStoreId(
+            @PathVariable @Valid Long storeId,
+            @RequestParam(required = false, defaultValue = "recent") String sortType,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
     ) {
-        return reviewService.getReviewsByStoreId(storeId);
+        if (ConditionalRequestUtils.checkNotModified(
+                webRequest, reviewService.getReviewsVersionByStoreId(storeId))) {
+            return null;
+        }
+
+        return reviewService.getReviewsByStoreId(storeId, sortType, cursor, limit);
     }
 
     /**
-     * 특정 유저가 작성한 리뷰 목록 조회
+     * 특정 가게에 대한 리뷰 목록 요약 조회 (view=summary, 작성자/가게는 ID 와 이름만)
+     * @param storeId
+     * @return CursorResponse<ReviewDto.Summary>
+     */
+    @GetMapping(value = "/store/{storeId}", params = "view=summary")
+    public CursorResponse<ReviewDto.Summary> reviewSummaryListByStoreId(
+            @PathVariable @Valid Long storeId,
+            @RequestParam(required = false, defaultValue = "recent") String sortType,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
+    ) {
+        if (ConditionalRequestUtils.checkNotModified(
+                webRequest, reviewService.getReviewsVersionByStoreId(storeId))) {
+            return null;
+        }
+
+        return reviewService.getReviewSummariesByStoreId(storeId, sortType, cursor, limit);
+    }
+
+    /**
+     * 특정 유저가 작성한 리뷰 목록 조회 (최신, 평점순 정렬)
+     * 커서 기반으로 limit 개씩 조회하고, 다음 페이지는 응답의 nextCursor 로 조회
+     * 리뷰 목록이 바뀌지 않았다면 목록 조회 없이 304 응답
      * @param memberId
-     * @return
+     * @return CursorResponse<ReviewDto.Response>
      */
     @GetMapping("/member/{memberId}")
     @PreAuthorize("hasRole('USER')")
-    public List<ReviewDto.Response> reviewListByMemberId(
-            @PathVariable @Valid Long memberId
+    public CursorResponse<ReviewDto.Response> reviewListByMemberId(
+            @PathVariable @Valid Long memberId,
+            @RequestParam(required = false, defaultValue = "recent") String sortType,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
+    ) {
+        if (ConditionalRequestUtils.checkNotModified(
+                webRequest, reviewService.getReviewsVersionByMemberId(memberId))) {
+            return null;
+        }
+
+        return reviewService.getReviewsByMemberId(memberId, sortType, cursor, limit);
+    }
+
+    /**
+     * 특정 유저가 작성한 리뷰 목록 요약 조회 (view=summary)
+     * @param memberId
+     * @return CursorResponse<ReviewDto.Summary>
+     */
+    @GetMapping(value = "/member/{memberId}", params = "view=summary")
+    @PreAuthorize("hasRole('USER')")
+    public CursorResponse<ReviewDto.Summary> reviewSummaryListByMemberId(
+            @PathVariable @Valid Long memberId,
+            @RequestParam(required = false, defaultValue = "recent") String sortType,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
     ) {
-        return reviewService.getReviewsByMemberId(memberId);
+        if (ConditionalRequestUtils.checkNotModified(
+                webRequest, reviewService.getReviewsVersionByMemberId(memberId))) {
+            return null;
+        }
+
+        return reviewService.getReviewSummariesByMemberId(memberId, sortType, cursor, limit);
+    }
+
+    /**
+     * 특정 가게에 대한 리뷰 요약 목록 스트리밍, 최신순 (NDJSON, 한 줄에 리뷰 하나)
+     * 목록을 메모리에 모으지 않고 DB 에서 읽는 대로 응답으로 전송
+     * 가게가 없으면 전송을 시작하기 전에 오류 응답
+     * @param storeId
+     * @return StreamingResponseBody
+     */
+    @GetMapping(value = "/store/{storeId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody reviewStreamByStoreId(@PathVariable Long storeId) {
+        storeService.getStoreById(storeId);
+
+        return outputStream -> {
+            try (NdjsonWriter<ReviewDto.Summary> writer = new NdjsonWriter<>(objectMapper, outputStream)) {
+                reviewService.streamReviewSummariesByStoreId(storeId, writer);
+            }
+        };
+    }
+
+    /**
+     * 특정 유저가 작성한 리뷰 요약 목록 스트리밍, 최신순 (NDJSON, 한 줄에 리뷰 하나)
+     * 유저가 없으면 전송을 시작하기 전에 오류 응답
+     * @param memberId
+     * @return StreamingResponseBody
+     */
+    @GetMapping(value = "/member/{memberId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('USER')")
+    public StreamingResponseBody reviewStreamByMemberId(@PathVariable Long memberId) {
+        memberService.getMemberById(memberId);
+
+        return outputStream -> {
+            try (NdjsonWriter<ReviewDto.Summary> writer = new NdjsonWriter<>(objectMapper, outputStream)) {
+                reviewService.streamReviewSummariesByMemberId(memberId, writer);
+            }
+        };
     }
 
     /**
      * 특정 리뷰 조회
+     * 리뷰, 작성자, 가게 정보가 바뀌지 않았다면 리뷰 조회 없이 304 응답
      * @param reviewId
      * @return
      */
     @GetMapping("/{reviewId}")
-    public ReviewDto.Response reviewDetails(@PathVariable @Valid Long reviewId) {
-        return ReviewDto.Response.fromEntity(
-                reviewService.getReviewById(reviewId)
-        );
+    public ReviewDto.Response reviewDetails(@PathVariable @Valid Long reviewId, WebRequest webRequest) {
+        if (ConditionalRequestUtils.checkNotModified(webRequest, reviewService.getReviewLastModified(reviewId))) {
+            return null;
+        }
+
+        return reviewService.getReviewDetails(reviewId);
     }
 
     /**
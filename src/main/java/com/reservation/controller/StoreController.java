@@ -1,15 +1,31 @@
 package com.reservation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.dto.CursorResponse;
 import com.reservation.dto.store.StoreDto;
+import com.reservation.dto.store.StoreImportDto;
 import com.reservation.dto.store.UpdateStoreDto;
+import com.reservation.exception.StoreException;
+import com.reservation.security.MemberPrincipal;
+import com.reservation.service.StoreImportService;
 import com.reservation.service.StoreService;
+import com.reservation.type.ErrorCode;
+import com.reservation.type.StoreImportFormat;
+import com.reservation.util.ConditionalRequestUtils;
+import com.reservation.util.NdjsonWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.InputStream;
+import java.net.URI;
 
 @RestController
 @RequiredArgsConstructor
@@ -17,6 +33,8 @@ import java.util.List;
 public class StoreController {
 
     private final StoreService storeService;
+    private final StoreImportService storeImportService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 가게 등록
@@ -31,35 +49,152 @@ public class StoreController {
         return storeService.createStore(request);
     }
 
+    /**
+     * 가게 일괄 등록 (CSV 또는 NDJSON 본문)
+     * CSV 는 첫 줄에 storeName, storeAddress, description, capacityPerson 헤더
+     * 등록은 백그라운드에서 진행하고 작업을 202 로 바로 응답 (Location 의 작업 조회로 행별 결과 확인)
+     * @param memberId
+     * @param contentType
+     * @param inputStream
+     * @return StoreImportDto.Job
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('OWNER')")
+    public ResponseEntity<StoreImportDto.Job> storeImport(
+            @RequestParam Long memberId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream inputStream
+    ) {
+        StoreImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? StoreImportFormat.NDJSON
+                : StoreImportFormat.CSV;
+
+        StoreImportDto.Job job = storeImportService.submitImport(memberId, format, inputStream);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/stores/import/" + job.getJobId()))
+                .body(job);
+    }
+
+    /**
+     * 가게 일괄 등록 작업 조회 (진행 상태, 완료되면 행별 등록 결과)
+     * 행별 결과의 geocodeStatus 가 PENDING 이면 좌표는 나중에 다시 조회해 반영
+     * 작업을 접수한 회원만 조회 가능
+     * @param jobId
+     * @param principal
+     * @return StoreImportDto.Job
+     */
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasRole('OWNER')")
+    public StoreImportDto.Job storeImportJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+        return storeImportService.getImportJob(jobId, principal.getMemberId());
+    }
+
     /**
      * 전체 가게 목록 (가나다, 평점, 거리순 정렬)
-     * @return List<StoreDto.Response>
+     * 커서 기반으로 limit 개씩 조회하고, 다음 페이지는 응답의 nextCursor 로 조회
+     * 거리순 정렬일 때 maxDistanceKm 이 있으면 반경 안의 가게만 조회
+     * 가게 목록이 바뀌지 않았다면 목록 조회 없이 304 응답
+     * @return CursorResponse<StoreDto.Response>
      */
     @GetMapping
-    public List<StoreDto.Response> storeList(
+    public CursorResponse<StoreDto.Response> storeList(
             @RequestParam(required = false, defaultValue = "name") String sortType,
             @RequestParam(required = false) Double userLat,
-            @RequestParam(required = false) Double userLng
+            @RequestParam(required = false) Double userLng,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestParam(required = false) Double maxDistanceKm,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
     ) {
+        if ("distance".equals(sortType)) {
+            checkUserLocation(userLat, userLng);
+        }
+        if (ConditionalRequestUtils.checkNotModified(webRequest, storeService.getStoresVersion())) {
+            return null;
+        }
+
         return switch (sortType) {
-            case "distance" ->
-                    storeService.getStoresSortedByDistance(userLat, userLng);
-            case "rating" -> storeService.getStoresSortedByRating();
-            default -> storeService.getStoresSortedByName();
+            case "distance" -> storeService.getStoresSortedByDistance(
+                    userLat, userLng, maxDistanceKm, cursor, limit
+            );
+            case "rating" -> storeService.getStoresSortedByRating(cursor, limit);
+            default -> storeService.getStoresSortedByName(cursor, limit);
         };
     }
 
+    /**
+     * 전체 가게 목록 요약 조회 (view=summary, 점주 정보 제외)
+     * 정렬, 커서는 전체 가게 목록과 같음
+     * @return CursorResponse<StoreDto.Summary>
+     */
+    @GetMapping(params = "view=summary")
+    public CursorResponse<StoreDto.Summary> storeSummaryList(
+            @RequestParam(required = false, defaultValue = "name") String sortType,
+            @RequestParam(required = false) Double userLat,
+            @RequestParam(required = false) Double userLng,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestParam(required = false) Double maxDistanceKm,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
+    ) {
+        if ("distance".equals(sortType)) {
+            checkUserLocation(userLat, userLng);
+        }
+        if (ConditionalRequestUtils.checkNotModified(webRequest, storeService.getStoresVersion())) {
+            return null;
+        }
+
+        return switch (sortType) {
+            case "distance" -> storeService.getStoreSummariesSortedByDistance(
+                    userLat, userLng, maxDistanceKm, cursor, limit
+            );
+            case "rating" -> storeService.getStoreSummariesSortedByRating(cursor, limit);
+            default -> storeService.getStoreSummariesSortedByName(cursor, limit);
+        };
+    }
+
+    /**
+     * 거리순 정렬에 쓸 사용자 위치 확인 (위도 -90 ~ 90, 경도 -180 ~ 180)
+     * @param userLat
+     * @param userLng
+     */
+    private static void checkUserLocation(Double userLat, Double userLng) {
+        if (userLat == null || userLng == null
+                || !(userLat >= -90 && userLat <= 90) || !(userLng >= -180 && userLng <= 180)) {
+            throw new StoreException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    /**
+     * 전체 가게 요약 목록 스트리밍 (NDJSON, 한 줄에 가게 하나)
+     * 목록을 메모리에 모으지 않고 DB 에서 읽는 대로 응답으로 전송
+     * @return StreamingResponseBody
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody storeStream() {
+        return outputStream -> {
+            try (NdjsonWriter<StoreDto.Summary> writer = new NdjsonWriter<>(objectMapper, outputStream)) {
+                storeService.streamStoreSummaries(writer);
+            }
+        };
+    }
 
     /**
      * 특정 가게 정보 조회
+     * 가게, 점주 정보가 바뀌지 않았다면 가게 조회 없이 304 응답
      * @param storeId
      * @return StoreDto.Response
      */
     @GetMapping("/{storeId}")
-    public StoreDto.Response storeDetails(@PathVariable @Valid Long storeId) {
-        return StoreDto.Response.fromEntity(
-                storeService.getStoreById(storeId)
-        );
+    public StoreDto.Response storeDetails(@PathVariable @Valid Long storeId, WebRequest webRequest) {
+        if (ConditionalRequestUtils.checkNotModified(webRequest, storeService.getStoreLastModified(storeId))) {
+            return null;
+        }
+
+        return storeService.getStoreDetails(storeId);
     }
 
     /**
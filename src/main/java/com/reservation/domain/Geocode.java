@@ -0,0 +1,45 @@
+package com.reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+public class Geocode {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "geocode_seq")
+    @SequenceGenerator(name = "geocode_seq", sequenceName = "geocode_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 500)
+    private String address;
+
+    private Double latitude;
+    private Double longitude;
+
+    private boolean found;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
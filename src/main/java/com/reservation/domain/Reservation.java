@@ -12,17 +12,22 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_store_date", columnList = "store_id, reservationDate"),
+        @Index(name = "idx_reservation_member_store_date", columnList = "member_id, store_id, reservationDate")
+})
 public class Reservation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id", nullable = false)
     private Store store;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
@@ -37,6 +42,10 @@ public class Reservation {
     @Column(nullable = false)
     private LocalDateTime reservationDate;
 
+    // 예약 수정, 상태 변경은 읽은 버전이 그대로일 때만 반영 (동시에 바뀌었다면 0 행 UPDATE)
+    @Version
+    private Long version;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -0,0 +1,61 @@
+package com.reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 가게별, 시간대(1시간)별 예약 인원 장부
+ * 예약 가능 여부는 이 행 하나의 조건부 UPDATE 로 판단
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_slot_store_slot", columnNames = {"store_id", "slotTime"})
+})
+public class ReservationSlot {
+
+    // 네이티브 INSERT IGNORE 로 행을 만들므로(ReservationSlotRepository) AUTO_INCREMENT 유지
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store;
+
+    @Column(nullable = false)
+    private LocalDateTime slotTime;
+
+    @Column(nullable = false)
+    private Integer reservedNum;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 예약 시간이 속한 시간대 (정각 기준 1시간)
+     * @param reservationDate
+     * @return LocalDateTime
+     */
+    public static LocalDateTime slotOf(LocalDateTime reservationDate) {
+        return reservationDate.truncatedTo(ChronoUnit.HOURS);
+    }
+}
@@ -1,7 +1,11 @@
 package com.reservation.domain;
 
+import com.reservation.type.GeocodeStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
@@ -11,10 +15,21 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "store")
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_store_name_id", columnList = "storeName, id"),
+        @Index(name = "idx_store_rating_id", columnList = "rating, id"),
+        @Index(name = "idx_store_geocode_status_updated_at", columnList = "geocodeStatus, updatedAt")
+})
 public class Store {
 
+    // 풀링 시퀀스 (MySQL 은 store_seq 테이블), ID 50 개를 한 번에 받아 INSERT 를 JDBC 배치로 묶을 수 있음
+    // IDENTITY 는 INSERT 할 때마다 생성된 키를 받아야 해서 Hibernate 가 배치를 사용하지 않음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "store_seq")
+    @SequenceGenerator(name = "store_seq", sequenceName = "store_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -23,20 +38,38 @@ public class Store {
     private String storeAddress;
     private String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
     @Column(nullable = false)
     private Integer capacityPerson;
 
+    // 리뷰 평균 평점 (ratingSum / reviewCount), 리뷰 등록, 수정, 삭제 시 함께 갱신
     private Double rating;
 
+    @Builder.Default
     @Column(nullable = false)
-    private Double latitude;
+    private Double ratingSum = 0.0;
+
+    @Builder.Default
     @Column(nullable = false)
+    private Integer reviewCount = 0;
+
+    // 좌표는 가게 등록 후 비동기로 채워지므로 조회 전까지 null
+    private Double latitude;
     private Double longitude;
 
+    // 좌표 조회 상태, PENDING 은 StoreLocationService 가 주기적으로 다시 조회
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private GeocodeStatus geocodeStatus = GeocodeStatus.PENDING;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer geocodeAttempts = 0;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
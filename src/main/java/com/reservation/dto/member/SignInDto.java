@@ -21,5 +21,15 @@ public class SignInDto {
     @Builder
     public static class Response {
         private String accessToken;
+        private String refreshToken;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RefreshRequest {
+        private String refreshToken;
     }
 }
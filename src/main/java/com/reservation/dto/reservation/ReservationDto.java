@@ -3,6 +3,7 @@ package com.reservation.dto.reservation;
 import com.reservation.domain.Reservation;
 import com.reservation.dto.member.MemberDto;
 import com.reservation.dto.store.StoreDto;
+import com.reservation.repository.projection.ReservationSummary;
 import com.reservation.type.ReservationStatus;
 import lombok.*;
 
@@ -56,4 +57,37 @@ public class ReservationDto {
         }
     }
 
+    /**
+     * 가게 예약 목록 조회용 요약 정보 (view=summary, 가게 정보 제외, 예약자는 연락처까지만)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Summary {
+
+        private Long reservationId;
+        private Long memberId;
+        private String username;
+        private String phoneNumber;
+        private Integer visitorNum;
+        private boolean isVisited;
+        private ReservationStatus status;
+        private LocalDateTime reservationDate;
+
+        public static ReservationDto.Summary fromProjection(ReservationSummary reservation) {
+            return Summary.builder()
+                    .reservationId(reservation.getReservationId())
+                    .memberId(reservation.getMemberId())
+                    .username(reservation.getUsername())
+                    .phoneNumber(reservation.getPhoneNumber())
+                    .visitorNum(reservation.getVisitorNum())
+                    .isVisited(Boolean.TRUE.equals(reservation.getVisited()))
+                    .status(reservation.getStatus())
+                    .reservationDate(reservation.getReservationDate())
+                    .build();
+        }
+    }
+
 }
@@ -3,6 +3,7 @@ package com.reservation.dto.review;
 import com.reservation.domain.Review;
 import com.reservation.dto.member.MemberDto;
 import com.reservation.dto.store.StoreDto;
+import com.reservation.repository.projection.ReviewSummary;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -62,4 +63,38 @@ public class ReviewDto {
         }
     }
 
+    /**
+     * 목록 조회용 요약 정보 (view=summary, 작성자, 가게는 ID 와 이름만)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Summary {
+
+        private Long reviewId;
+        private Long memberId;
+        private String username;
+        private Long storeId;
+        private String storeName;
+        private String content;
+        private Double rating;
+
+        private LocalDateTime createdAt;
+
+        public static ReviewDto.Summary fromProjection(ReviewSummary review) {
+            return Summary.builder()
+                    .reviewId(review.getReviewId())
+                    .memberId(review.getMemberId())
+                    .username(review.getUsername())
+                    .storeId(review.getStoreId())
+                    .storeName(review.getStoreName())
+                    .content(review.getContent())
+                    .rating(review.getRating())
+                    .createdAt(review.getCreatedAt())
+                    .build();
+        }
+    }
+
 }
@@ -2,6 +2,8 @@ package com.reservation.dto.store;
 
 import com.reservation.domain.Store;
 import com.reservation.dto.member.MemberDto;
+import com.reservation.repository.projection.StoreSummary;
+import com.reservation.type.GeocodeStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -50,6 +52,8 @@ public class StoreDto {
         private Double rating;
         private Double latitude;
         private Double longitude;
+        // 좌표 조회 상태 (NOT_FOUND: 주소를 찾지 못함, 주소 수정 필요)
+        private GeocodeStatus geocodeStatus;
 
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
@@ -64,10 +68,42 @@ public class StoreDto {
                     .rating(Double.parseDouble(String.format("%.1f", store.getRating())))
                     .latitude(store.getLatitude())
                     .longitude(store.getLongitude())
+                    .geocodeStatus(store.getGeocodeStatus())
                     .createdAt(store.getCreatedAt())
                     .updatedAt(store.getUpdatedAt())
                     .build();
         }
 
     }
+
+    /**
+     * 목록 조회용 요약 정보 (view=summary, 점주 정보 제외)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Summary {
+
+        private Long shopId;
+        private String storeName;
+        private String storeAddress;
+        private Double rating;
+        private Integer reviewCount;
+        private Double latitude;
+        private Double longitude;
+
+        public static StoreDto.Summary fromProjection(StoreSummary store) {
+            return Summary.builder()
+                    .shopId(store.getStoreId())
+                    .storeName(store.getStoreName())
+                    .storeAddress(store.getStoreAddress())
+                    .rating(store.getRating() == null ? null : Math.round(store.getRating() * 10) / 10.0)
+                    .reviewCount(store.getReviewCount())
+                    .latitude(store.getLatitude())
+                    .longitude(store.getLongitude())
+                    .build();
+        }
+    }
 }
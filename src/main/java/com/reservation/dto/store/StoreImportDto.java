@@ -0,0 +1,96 @@
+package com.reservation.dto.store;
+
+import com.reservation.type.GeocodeStatus;
+import com.reservation.type.StoreImportJobStatus;
+import com.reservation.type.StoreImportStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class StoreImportDto {
+
+    /**
+     * 행별 등록 결과
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+
+        private int line;
+        private String storeName;
+        private StoreImportStatus status;
+        private Long shopId;
+        private boolean located;
+        // PENDING 이면 좌표 조회가 일시적으로 실패해 주기적으로 다시 조회
+        private GeocodeStatus geocodeStatus;
+        private String message;
+
+        public static StoreImportDto.Result of(int line, String storeName, StoreImportStatus status, String message) {
+            return Result.builder()
+                    .line(line)
+                    .storeName(storeName)
+                    .status(status)
+                    .message(message)
+                    .build();
+        }
+    }
+
+    /**
+     * 일괄 등록 결과 (상태별 행 수, 행별 결과)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+
+        private int total;
+        private int created;
+        private int duplicated;
+        private int invalid;
+        private int failed;
+        private List<Result> results;
+
+        public static StoreImportDto.Response fromResults(List<Result> results) {
+            return Response.builder()
+                    .total(results.size())
+                    .created(count(results, StoreImportStatus.CREATED))
+                    .duplicated(count(results, StoreImportStatus.DUPLICATE))
+                    .invalid(count(results, StoreImportStatus.INVALID))
+                    .failed(count(results, StoreImportStatus.FAILED))
+                    .results(results)
+                    .build();
+        }
+
+        private static int count(List<Result> results, StoreImportStatus status) {
+            return (int) results.stream()
+                    .filter(result -> result.getStatus() == status)
+                    .count();
+        }
+    }
+
+    /**
+     * 일괄 등록 작업 (processed: 지금까지 읽은 행 수, result: 완료되면 등록 결과)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Job {
+
+        private String jobId;
+        private Long memberId;
+        private StoreImportJobStatus status;
+        private int processed;
+        private Response result;
+        private String message;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+}
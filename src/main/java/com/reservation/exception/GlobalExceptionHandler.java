@@ -4,6 +4,7 @@ import com.reservation.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import static com.reservation.type.ErrorCode.INTERNAL_SERVER_ERROR;
 import static com.reservation.type.ErrorCode.INVALID_REQUEST;
+import static com.reservation.type.ErrorCode.STREAMING_BUSY;
 
 @Slf4j
 @RestControllerAdvice
@@ -22,7 +24,12 @@ public class GlobalExceptionHandler {
         log.error("{} is occured. (member)", e.getErrorCode());
 
         ErrorResponse errorResponse = new ErrorResponse(e.getErrorCode(), e.getErrorMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        HttpStatus status = switch (e.getErrorCode()) {
+            case PASSWORD_HASHING_BUSY -> HttpStatus.SERVICE_UNAVAILABLE;
+            case INVALID_TOKEN -> HttpStatus.UNAUTHORIZED;
+            default -> HttpStatus.BAD_REQUEST;
+        };
+        return new ResponseEntity<>(errorResponse, status);
     }
 
     @ExceptionHandler(StoreException.class)
@@ -30,7 +37,11 @@ public class GlobalExceptionHandler {
         log.error("{} is occured.(store)", e.getErrorCode());
 
         ErrorResponse errorResponse = new ErrorResponse(e.getErrorCode(), e.getErrorMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        HttpStatus status = switch (e.getErrorCode()) {
+            case STORE_IMPORT_BUSY -> HttpStatus.SERVICE_UNAVAILABLE;
+            default -> HttpStatus.BAD_REQUEST;
+        };
+        return new ResponseEntity<>(errorResponse, status);
     }
 
     @ExceptionHandler(ReviewException.class)
@@ -85,6 +96,17 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * 스트리밍 전용 커넥션 풀이 가득 차서 connection-timeout 안에 커넥션을 받지 못한 경우 (응답 전송 전)
+     */
+    @ExceptionHandler(CannotGetJdbcConnectionException.class)
+    public ResponseEntity<ErrorResponse> handleCannotGetJdbcConnectionException(CannotGetJdbcConnectionException e) {
+        log.error("CannotGetJdbcConnectionException is occured.", e);
+
+        ErrorResponse errorResponse = new ErrorResponse(STREAMING_BUSY, STREAMING_BUSY.getDescription());
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(UsernameNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleUsernameNotFoundException(UsernameNotFoundException e) {
         log.error("UsernameNotFoundException is occured.");
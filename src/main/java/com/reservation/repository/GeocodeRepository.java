@@ -0,0 +1,14 @@
+package com.reservation.repository;
+
+import com.reservation.domain.Geocode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GeocodeRepository extends JpaRepository<Geocode, Long> {
+
+    Optional<Geocode> findByAddress(String address);
+
+}
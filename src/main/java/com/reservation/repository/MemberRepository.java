@@ -2,8 +2,13 @@ package com.reservation.repository;
 
 import com.reservation.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +16,18 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByUsername(String username);
 
+    /**
+     * 비밀번호가 그 사이 바뀌지 않았을 때만 새로 암호화한 비밀번호로 교체
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :newPassword, m.updatedAt = :now " +
+            "WHERE m.id = :id AND m.password = :oldPassword")
+    int updatePassword(
+            @Param("id") Long id,
+            @Param("oldPassword") String oldPassword,
+            @Param("newPassword") String newPassword,
+            @Param("now") LocalDateTime now
+    );
+
 }
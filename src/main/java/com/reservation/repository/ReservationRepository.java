@@ -3,19 +3,28 @@ package com.reservation.repository;
 import com.reservation.domain.Member;
 import com.reservation.domain.Reservation;
 import com.reservation.domain.Store;
+import com.reservation.repository.projection.ReservationSummary;
+import com.reservation.type.ReservationStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = {"store", "store.member", "member"})
+    Optional<Reservation> findById(Long id);
+
+    @EntityGraph(attributePaths = {"store", "store.member", "member"})
     List<Reservation> findReservationsByStore(Store store);
 
     Optional<Reservation> findByMemberAndStoreAndReservationDate(
@@ -26,12 +35,84 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             Member member, Store store
     );
 
-    @Query("SELECT COALESCE(SUM(r.visitorNum), 0) FROM Reservation r WHERE r.store = :store")
-    Integer sumVisitorNumByStore(@Param("store") Store store);
-
-    @Query("SELECT r FROM Reservation r WHERE r.store = :store AND DATE(r.reservationDate) = :date")
+    /**
+     * 특정 가게의 [from, to) 기간 예약 목록
+     * 예약 일시 컬럼을 함수로 감싸지 않고 범위로 비교해야 (store_id, reservation_date) 인덱스 사용 가능
+     */
+    @EntityGraph(attributePaths = {"store", "store.member", "member"})
+    @Query("SELECT r FROM Reservation r WHERE r.store = :store " +
+            "AND r.reservationDate >= :from AND r.reservationDate < :to")
     List<Reservation> findReservationsByStoreAndDate(
             @Param("store") Store store,
-            @Param("date") LocalDate date
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 특정 가게 예약 목록 요약 (가게 정보 없이 예약, 예약자 컬럼만 조회)
+     */
+    @Query("SELECT r.id AS reservationId, m.id AS memberId, m.username AS username, " +
+            "m.phoneNumber AS phoneNumber, r.visitorNum AS visitorNum, r.isVisited AS visited, " +
+            "r.status AS status, r.reservationDate AS reservationDate " +
+            "FROM Reservation r JOIN r.member m WHERE r.store.id = :storeId " +
+            "ORDER BY r.reservationDate ASC, r.id ASC")
+    List<ReservationSummary> findSummariesByStoreId(@Param("storeId") Long storeId);
+
+    @Query("SELECT r.id AS reservationId, m.id AS memberId, m.username AS username, " +
+            "m.phoneNumber AS phoneNumber, r.visitorNum AS visitorNum, r.isVisited AS visited, " +
+            "r.status AS status, r.reservationDate AS reservationDate " +
+            "FROM Reservation r JOIN r.member m WHERE r.store.id = :storeId " +
+            "AND r.reservationDate >= :from AND r.reservationDate < :to " +
+            "ORDER BY r.reservationDate ASC, r.id ASC")
+    List<ReservationSummary> findSummariesByStoreIdAndDate(
+            @Param("storeId") Long storeId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 읽은 뒤로 예약이 바뀌지 않았고(version) 현재 상태가 fromStatuses 중 하나일 때만 상태 변경
+     * (변경했다면 1, 다른 요청이 먼저 바꿨다면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = :toStatus, r.updatedAt = :now, r.version = r.version + 1 " +
+            "WHERE r.id = :id AND r.version = :version AND r.status IN :fromStatuses")
+    int updateStatus(
+            @Param("id") Long id,
+            @Param("version") Long version,
+            @Param("fromStatuses") Collection<ReservationStatus> fromStatuses,
+            @Param("toStatus") ReservationStatus toStatus,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 읽은 뒤로 예약이 바뀌지 않았을 때만(version) 예약 일시, 인원을 바꾸고 대기 상태로 변경
+     * (변경했다면 1, 다른 요청이 먼저 바꿨다면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.visitorNum = :visitorNum, r.reservationDate = :reservationDate, " +
+            "r.status = :toStatus, r.updatedAt = :now, r.version = r.version + 1 " +
+            "WHERE r.id = :id AND r.version = :version")
+    int updateReservation(
+            @Param("id") Long id,
+            @Param("version") Long version,
+            @Param("visitorNum") Integer visitorNum,
+            @Param("reservationDate") LocalDateTime reservationDate,
+            @Param("toStatus") ReservationStatus toStatus,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 아직 도착하지 않았고 현재 상태가 fromStatuses 중 하나일 때만 도착 처리
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = :toStatus, r.isVisited = true, r.updatedAt = :now, " +
+            "r.version = r.version + 1 " +
+            "WHERE r.id = :id AND r.status IN :fromStatuses AND r.isVisited = false")
+    int updateVisited(
+            @Param("id") Long id,
+            @Param("fromStatuses") Collection<ReservationStatus> fromStatuses,
+            @Param("toStatus") ReservationStatus toStatus,
+            @Param("now") LocalDateTime now
     );
 }
@@ -0,0 +1,66 @@
+package com.reservation.repository;
+
+import com.reservation.domain.ReservationSlot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, Long> {
+
+    List<ReservationSlot> findAllBySlotTimeGreaterThanEqual(LocalDateTime slotTime);
+
+    /**
+     * 수용인원을 넘지 않을 때만 예약 인원 증가 (증가했다면 1, 아니면 0)
+     */
+    @Modifying
+    @Query("UPDATE ReservationSlot s " +
+            "SET s.reservedNum = s.reservedNum + :visitorNum, s.updatedAt = :now " +
+            "WHERE s.store.id = :storeId AND s.slotTime = :slotTime " +
+            "AND s.reservedNum + :visitorNum <= :capacity")
+    int reserve(
+            @Param("storeId") Long storeId,
+            @Param("slotTime") LocalDateTime slotTime,
+            @Param("visitorNum") int visitorNum,
+            @Param("capacity") int capacity,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 예약 인원 감소
+     */
+    @Modifying
+    @Query("UPDATE ReservationSlot s " +
+            "SET s.reservedNum = s.reservedNum - :visitorNum, s.updatedAt = :now " +
+            "WHERE s.store.id = :storeId AND s.slotTime = :slotTime " +
+            "AND s.reservedNum >= :visitorNum")
+    int release(
+            @Param("storeId") Long storeId,
+            @Param("slotTime") LocalDateTime slotTime,
+            @Param("visitorNum") int visitorNum,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 시간대 행이 없을 때만 0 명으로 생성 (동시에 생성해도 unique 제약으로 하나만 남음)
+     * 네이티브 쿼리는 영향받는 테이블을 지정하지 않으면 2차 캐시 전체를 비우므로 reservation_slot 만 지정
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reservation_slot"))
+    @Query(value = "INSERT IGNORE INTO reservation_slot (store_id, slot_time, reserved_num, created_at, updated_at) " +
+            "VALUES (:storeId, :slotTime, 0, :now, :now)",
+            nativeQuery = true)
+    int insertIfAbsent(
+            @Param("storeId") Long storeId,
+            @Param("slotTime") LocalDateTime slotTime,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -3,23 +3,126 @@ package com.reservation.repository;
 import com.reservation.domain.Member;
 import com.reservation.domain.Review;
 import com.reservation.domain.Store;
+import com.reservation.repository.projection.ResourceVersion;
+import com.reservation.repository.projection.ReviewSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    List<Review> findAllByStore(Store store);
-
-    List<Review> findAllByMember(Member member);
+    @Override
+    @EntityGraph(attributePaths = {"store", "store.member", "member"})
+    Optional<Review> findById(Long id);
 
     Optional<Review> findByMemberAndStore(Member member, Store store);
 
-    @Query("SELECT COALESCE(SUM(r.rating), 0) FROM Review r WHERE r.store = :store")
-    Double avgRatingByStore(@Param("store") Store store);
+    /**
+     * 리뷰 응답(리뷰, 작성자, 가게, 점주 정보)의 마지막 수정 시각 (조건부 GET 용)
+     */
+    @Query("SELECT greatest(r.updatedAt, m.updatedAt, s.updatedAt, sm.updatedAt) " +
+            "FROM Review r JOIN r.member m JOIN r.store s JOIN s.member sm WHERE r.id = :id")
+    Optional<LocalDateTime> findLastModifiedById(@Param("id") Long id);
+
+    /**
+     * 특정 가게 리뷰 목록의 마지막 수정 시각, 리뷰 수 (조건부 GET 용)
+     * review, store, member 테이블이 바뀌기 전까지 쿼리 캐시 사용
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "resource-version")
+    })
+    @Query("SELECT MAX(greatest(r.updatedAt, m.updatedAt, s.updatedAt, sm.updatedAt)) AS lastModified, " +
+            "COUNT(r) AS count " +
+            "FROM Review r JOIN r.member m JOIN r.store s JOIN s.member sm WHERE s.id = :storeId")
+    ResourceVersion findVersionByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * 특정 유저 리뷰 목록의 마지막 수정 시각, 리뷰 수 (조건부 GET 용)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "resource-version")
+    })
+    @Query("SELECT MAX(greatest(r.updatedAt, m.updatedAt, s.updatedAt, sm.updatedAt)) AS lastModified, " +
+            "COUNT(r) AS count " +
+            "FROM Review r JOIN r.member m JOIN r.store s JOIN s.member sm WHERE m.id = :memberId")
+    ResourceVersion findVersionByMemberId(@Param("memberId") Long memberId);
+
+    @EntityGraph(attributePaths = {"store", "store.member", "member"})
+    List<Review> findAllByIdIn(Collection<Long> ids);
+
+    @Query("SELECT r.id AS reviewId, m.id AS memberId, m.username AS username, " +
+            "s.id AS storeId, s.storeName AS storeName, " +
+            "r.content AS content, r.rating AS rating, r.createdAt AS createdAt " +
+            "FROM Review r JOIN r.member m JOIN r.store s WHERE r.id IN :ids")
+    List<ReviewSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 정렬, 커서 조건으로 리뷰 ID 만 조회 (가게/회원 + 정렬 키 인덱스만으로 처리)
+     * 응답에 필요한 정보는 ID 목록으로 따로 조회 (findAllByIdIn, findSummariesByIdIn)
+     */
+    @Query("SELECT r.id FROM Review r WHERE r.store.id = :storeId ORDER BY r.createdAt DESC, r.id DESC")
+    List<Long> findIdsByStoreOrderByCreatedAt(@Param("storeId") Long storeId, Pageable pageable);
+
+    @Query("SELECT r.id FROM Review r WHERE r.store.id = :storeId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Long> findIdsByStoreOrderByCreatedAtAfter(
+            @Param("storeId") Long storeId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("SELECT r.id FROM Review r WHERE r.store.id = :storeId ORDER BY r.rating DESC, r.id DESC")
+    List<Long> findIdsByStoreOrderByRating(@Param("storeId") Long storeId, Pageable pageable);
+
+    @Query("SELECT r.id FROM Review r WHERE r.store.id = :storeId " +
+            "AND (r.rating < :rating OR (r.rating = :rating AND r.id < :id)) " +
+            "ORDER BY r.rating DESC, r.id DESC")
+    List<Long> findIdsByStoreOrderByRatingAfter(
+            @Param("storeId") Long storeId,
+            @Param("rating") Double rating,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("SELECT r.id FROM Review r WHERE r.member.id = :memberId ORDER BY r.createdAt DESC, r.id DESC")
+    List<Long> findIdsByMemberOrderByCreatedAt(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT r.id FROM Review r WHERE r.member.id = :memberId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Long> findIdsByMemberOrderByCreatedAtAfter(
+            @Param("memberId") Long memberId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("SELECT r.id FROM Review r WHERE r.member.id = :memberId ORDER BY r.rating DESC, r.id DESC")
+    List<Long> findIdsByMemberOrderByRating(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT r.id FROM Review r WHERE r.member.id = :memberId " +
+            "AND (r.rating < :rating OR (r.rating = :rating AND r.id < :id)) " +
+            "ORDER BY r.rating DESC, r.id DESC")
+    List<Long> findIdsByMemberOrderByRatingAfter(
+            @Param("memberId") Long memberId,
+            @Param("rating") Double rating,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 }
@@ -2,20 +2,179 @@ package com.reservation.repository;
 
 import com.reservation.domain.Member;
 import com.reservation.domain.Store;
+import com.reservation.repository.projection.PendingGeocode;
+import com.reservation.repository.projection.ResourceVersion;
+import com.reservation.repository.projection.StoreLocation;
+import com.reservation.repository.projection.StoreSummary;
+import com.reservation.type.GeocodeStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, Long> {
 
-    List<Store> findAllByOrderByStoreNameAsc();
+    @EntityGraph(attributePaths = "member")
+    List<Store> findAllByIdIn(Collection<Long> ids);
 
-    List<Store> findAllByOrderByRatingDesc();
+    @Query("SELECT s.id AS storeId, s.storeName AS storeName, s.storeAddress AS storeAddress, " +
+            "s.rating AS rating, s.reviewCount AS reviewCount, s.latitude AS latitude, s.longitude AS longitude " +
+            "FROM Store s WHERE s.id IN :ids")
+    List<StoreSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 가게 정렬 조회(id 목록)는 쿼리 캐시 사용 (store 테이블이 바뀌면 Hibernate 가 자동으로 무효화)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "store-sort")
+    })
+    @Query("SELECT s.id FROM Store s ORDER BY s.storeName ASC, s.id ASC")
+    List<Long> findIdsOrderByStoreName(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "store-sort")
+    })
+    @Query("SELECT s.id FROM Store s " +
+            "WHERE s.storeName > :storeName OR (s.storeName = :storeName AND s.id > :id) " +
+            "ORDER BY s.storeName ASC, s.id ASC")
+    List<Long> findIdsOrderByStoreNameAfter(
+            @Param("storeName") String storeName,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "store-sort")
+    })
+    @Query("SELECT s.id FROM Store s ORDER BY s.rating DESC, s.id DESC")
+    List<Long> findIdsOrderByRating(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "store-sort")
+    })
+    @Query("SELECT s.id FROM Store s " +
+            "WHERE s.rating < :rating OR (s.rating = :rating AND s.id < :id) " +
+            "ORDER BY s.rating DESC, s.id DESC")
+    List<Long> findIdsOrderByRatingAfter(
+            @Param("rating") Double rating,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 
     Optional<Store> findByStoreNameAndMember(String storeName, Member member);
 
+    /**
+     * 점주의 가게 중 이름이 storeNames 에 있는 가게 이름 (일괄 등록 시 중복 확인을 한 번에)
+     */
+    @Query("SELECT s.storeName FROM Store s WHERE s.member = :member AND s.storeName IN :storeNames")
+    List<String> findStoreNamesByMemberAndStoreNameIn(
+            @Param("member") Member member,
+            @Param("storeNames") Collection<String> storeNames
+    );
+
+    /**
+     * 가게 응답(가게, 점주 정보)의 마지막 수정 시각 (조건부 GET 용)
+     */
+    @Query("SELECT greatest(s.updatedAt, m.updatedAt) FROM Store s JOIN s.member m WHERE s.id = :id")
+    Optional<LocalDateTime> findLastModifiedById(@Param("id") Long id);
+
+    /**
+     * 전체 가게 목록의 마지막 수정 시각, 가게 수 (조건부 GET 용)
+     * store, member 테이블이 바뀌기 전까지 쿼리 캐시 사용
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "resource-version")
+    })
+    @Query("SELECT MAX(greatest(s.updatedAt, m.updatedAt)) AS lastModified, COUNT(s) AS count " +
+            "FROM Store s JOIN s.member m")
+    ResourceVersion findVersion();
+
+    @Query("SELECT s.id AS storeId, s.latitude AS latitude, s.longitude AS longitude FROM Store s " +
+            "WHERE s.latitude IS NOT NULL AND s.longitude IS NOT NULL")
+    List<StoreLocation> findAllLocations();
+
+    /**
+     * 좌표 조회 결과 반영용 (결과를 반영하는 동안 주소 변경과 겹치지 않도록 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Store s WHERE s.id = :id")
+    Optional<Store> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 좌표를 다시 조회할 가게 (PENDING 상태로 마지막 시도 후 before 이전에 바뀐 가게)
+     */
+    @Query("SELECT s.id AS storeId, s.storeAddress AS storeAddress FROM Store s " +
+            "WHERE s.geocodeStatus = :status AND s.updatedAt < :before ORDER BY s.updatedAt ASC")
+    List<PendingGeocode> findPendingGeocodes(
+            @Param("status") GeocodeStatus status,
+            @Param("before") LocalDateTime before,
+            Pageable pageable
+    );
+
+    /**
+     * 전체 가게의 리뷰 평점 합계, 개수, 평균을 리뷰 테이블 기준으로 다시 계산
+     * 조건부 GET 이 바뀐 평점을 알 수 있도록 updatedAt 도 함께 갱신
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Store s SET " +
+            "s.rating = COALESCE((SELECT AVG(r.rating) FROM Review r WHERE r.store = s), 0.0), " +
+            "s.ratingSum = COALESCE((SELECT SUM(r.rating) FROM Review r WHERE r.store = s), 0.0), " +
+            "s.reviewCount = CAST((SELECT COUNT(r) FROM Review r WHERE r.store = s) AS Integer), " +
+            "s.updatedAt = :now")
+    int rebuildRatings(@Param("now") LocalDateTime now);
+
+    /**
+     * MySQL 공간 인덱스(location)로 사각 범위를 먼저 거르고, 구면 거리로 반경 안의 가게만 조회
+     * (store.location 컬럼 필요, Flyway 도입 전 DB 는 db/mysql/store_location.sql 적용)
+     */
+    @Query(value = "SELECT s.id AS storeId, s.latitude AS latitude, s.longitude AS longitude " +
+            "FROM store s " +
+            "WHERE MBRContains(ST_MakeEnvelope(POINT(:minLng, :minLat), POINT(:maxLng, :maxLat)), s.location) " +
+            "AND s.latitude IS NOT NULL " +
+            "AND ST_Distance_Sphere(s.location, POINT(:lng, :lat)) <= :radiusMeters",
+            nativeQuery = true)
+    List<StoreLocation> findLocationsWithinDistance(
+            @Param("lat") double lat,
+            @Param("lng") double lng,
+            @Param("radiusMeters") double radiusMeters,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng
+    );
+
+    /**
+     * 위도/경도 사각 범위 안의 가게 조회 (공간 함수가 없는 H2 등에서 사용)
+     */
+    @Query("SELECT s.id AS storeId, s.latitude AS latitude, s.longitude AS longitude FROM Store s " +
+            "WHERE s.latitude BETWEEN :minLat AND :maxLat " +
+            "AND s.longitude BETWEEN :minLng AND :maxLng")
+    List<StoreLocation> findLocationsInBoundingBox(
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng
+    );
 
 }
@@ -0,0 +1,114 @@
+package com.reservation.repository;
+
+import com.reservation.repository.projection.ReservationSummary;
+import com.reservation.repository.projection.ReviewSummary;
+import com.reservation.repository.projection.StoreSummary;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * 스트리밍 조회(NDJSON) 전용 요약 스트림
+ * 스트리밍 전용 커넥션 풀(streamingDataSource)에서 fetch size 만큼씩 읽음
+ * 스트림을 닫을 때 커넥션을 돌려주므로 사용 후 반드시 닫아야 함 (트랜잭션 필요 없음)
+ */
+@Repository
+public class SummaryStreamRepository {
+
+    private static final String STORE_SUMMARIES =
+            "SELECT s.id AS storeId, s.store_name AS storeName, s.store_address AS storeAddress, " +
+            "s.rating AS rating, s.review_count AS reviewCount, s.latitude AS latitude, s.longitude AS longitude " +
+            "FROM store s ORDER BY s.id ASC";
+
+    private static final String REVIEW_SUMMARIES =
+            "SELECT r.id AS reviewId, m.id AS memberId, m.username AS username, " +
+            "s.id AS storeId, s.store_name AS storeName, " +
+            "r.content AS content, r.rating AS rating, r.created_at AS createdAt " +
+            "FROM review r JOIN member m ON m.id = r.member_id JOIN store s ON s.id = r.store_id ";
+
+    private static final String RESERVATION_SUMMARIES =
+            "SELECT r.id AS reservationId, m.id AS memberId, m.username AS username, " +
+            "m.phone_number AS phoneNumber, r.visitor_num AS visitorNum, r.is_visited AS visited, " +
+            "r.status AS status, r.reservation_date AS reservationDate " +
+            "FROM reservation r JOIN member m ON m.id = r.member_id ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    public SummaryStreamRepository(
+            @Qualifier("streamingDataSource") DataSource streamingDataSource,
+            @Value("${spring.datasource.streaming.fetch-size:1000}") int fetchSize
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(streamingDataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * 전체 가게 요약 스트림 (ID 순)
+     * @return Stream<StoreSummary>
+     */
+    public Stream<StoreSummary> streamStoreSummaries() {
+        return stream(StoreSummary.class, STORE_SUMMARIES);
+    }
+
+    /**
+     * 특정 가게 리뷰 요약 스트림, 최신순
+     * @param storeId
+     * @return Stream<ReviewSummary>
+     */
+    public Stream<ReviewSummary> streamReviewSummariesByStoreId(Long storeId) {
+        return stream(ReviewSummary.class, REVIEW_SUMMARIES +
+                "WHERE r.store_id = ? ORDER BY r.created_at DESC, r.id DESC", storeId);
+    }
+
+    /**
+     * 특정 유저 리뷰 요약 스트림, 최신순
+     * @param memberId
+     * @return Stream<ReviewSummary>
+     */
+    public Stream<ReviewSummary> streamReviewSummariesByMemberId(Long memberId) {
+        return stream(ReviewSummary.class, REVIEW_SUMMARIES +
+                "WHERE r.member_id = ? ORDER BY r.created_at DESC, r.id DESC", memberId);
+    }
+
+    /**
+     * 특정 가게 예약 요약 스트림, 예약 시간순
+     * @param storeId
+     * @return Stream<ReservationSummary>
+     */
+    public Stream<ReservationSummary> streamReservationSummariesByStoreId(Long storeId) {
+        return stream(ReservationSummary.class, RESERVATION_SUMMARIES +
+                "WHERE r.store_id = ? ORDER BY r.reservation_date ASC, r.id ASC", storeId);
+    }
+
+    /**
+     * 특정 가게의 [from, to) 예약 요약 스트림, 예약 시간순
+     * @param storeId
+     * @param from
+     * @param to
+     * @return Stream<ReservationSummary>
+     */
+    public Stream<ReservationSummary> streamReservationSummariesByStoreIdAndDate(
+            Long storeId, LocalDateTime from, LocalDateTime to
+    ) {
+        return stream(ReservationSummary.class, RESERVATION_SUMMARIES +
+                "WHERE r.store_id = ? AND r.reservation_date >= ? AND r.reservation_date < ? " +
+                "ORDER BY r.reservation_date ASC, r.id ASC", storeId, from, to);
+    }
+
+    /**
+     * 행을 컬럼 별칭(대소문자 무시)으로 읽는 프로젝션으로 변환
+     */
+    private <T> Stream<T> stream(Class<T> projectionType, String sql, Object... args) {
+        return jdbcTemplate.queryForStream(sql, new ColumnMapRowMapper(), args)
+                .map(row -> projectionFactory.createProjection(projectionType, row));
+    }
+}
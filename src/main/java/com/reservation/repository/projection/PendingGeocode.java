@@ -0,0 +1,9 @@
+package com.reservation.repository.projection;
+
+public interface PendingGeocode {
+
+    Long getStoreId();
+
+    String getStoreAddress();
+
+}
@@ -0,0 +1,25 @@
+package com.reservation.repository.projection;
+
+import com.reservation.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+public interface ReservationSummary {
+
+    Long getReservationId();
+
+    Long getMemberId();
+
+    String getUsername();
+
+    String getPhoneNumber();
+
+    Integer getVisitorNum();
+
+    Boolean getVisited();
+
+    ReservationStatus getStatus();
+
+    LocalDateTime getReservationDate();
+
+}
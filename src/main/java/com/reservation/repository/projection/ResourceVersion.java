@@ -0,0 +1,11 @@
+package com.reservation.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ResourceVersion {
+
+    LocalDateTime getLastModified();
+
+    Long getCount();
+
+}
@@ -0,0 +1,23 @@
+package com.reservation.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ReviewSummary {
+
+    Long getReviewId();
+
+    Long getMemberId();
+
+    String getUsername();
+
+    Long getStoreId();
+
+    String getStoreName();
+
+    String getContent();
+
+    Double getRating();
+
+    LocalDateTime getCreatedAt();
+
+}
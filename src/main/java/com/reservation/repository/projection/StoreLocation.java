@@ -0,0 +1,11 @@
+package com.reservation.repository.projection;
+
+public interface StoreLocation {
+
+    Long getStoreId();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+}
@@ -0,0 +1,19 @@
+package com.reservation.repository.projection;
+
+public interface StoreSummary {
+
+    Long getStoreId();
+
+    String getStoreName();
+
+    String getStoreAddress();
+
+    Double getRating();
+
+    Integer getReviewCount();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+}
@@ -1,5 +1,6 @@
 package com.reservation.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,6 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
      * 토큰 검증
+     * 토큰은 한 번만 파싱하고, 폐기되지 않은 액세스 토큰이면 검증된 Claims 로 인증 정보 생성
      * @param request
      * @param response
      * @param filterChain
@@ -42,9 +44,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = this.resolveTokenFromRequest(request);
+        Claims claims = StringUtils.hasText(token) ? tokenProvider.verifyAccessToken(token) : null;
 
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            Authentication auth = tokenProvider.getAuthentication(token);
+        if (claims != null) {
+            Authentication auth = tokenProvider.getAuthentication(claims);
             SecurityContextHolder.getContext().setAuthentication(auth);
         }
 
@@ -0,0 +1,31 @@
+package com.reservation.security;
+
+import com.reservation.type.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 토큰 claim 으로 만든 인증 사용자 정보 (DB 조회 없이 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberPrincipal {
+
+    private final Long memberId;
+    private final String username;
+    private final Role role;
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
@@ -1,126 +1,175 @@
 package com.reservation.security;
 
+import com.reservation.domain.Member;
+import com.reservation.dto.member.SignInDto;
+import com.reservation.exception.MemberException;
 import com.reservation.service.MemberService;
+import com.reservation.type.AuthenticationMode;
+import com.reservation.type.ErrorCode;
 import com.reservation.type.Role;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class TokenProvider {
 
-    private static final long TOKEN_EXPIRE_TIME = 1000 * 60 * 60; // 1 hour
+    private static final String TOKEN_TYPE = "typ";
+    private static final String ACCESS_TOKEN = "access";
+    private static final String REFRESH_TOKEN = "refresh";
 
     private final MemberService memberService;
+    private final TokenVerifier tokenVerifier;
+    private final TokenRevocationList tokenRevocationList;
 
-    @Value("{spring.jwt.secret}")
-    private String secretKey;
+    @Value("${spring.jwt.authentication-mode:MEMBER_LOOKUP}")
+    private AuthenticationMode authenticationMode;
 
-    // 역할 정보를 포함한 토큰 생성 메서드
+    @Value("${spring.jwt.access-token-ttl:PT15M}")
+    private Duration accessTokenTtl;
+
+    @Value("${spring.jwt.refresh-token-ttl:P14D}")
+    private Duration refreshTokenTtl;
 
     /**
-     * 역할 정보등을 포함한 토큰 생성
+     * 액세스 토큰(짧은 만료)과 리프레시 토큰(긴 만료) 함께 생성
+     * @param memberId
      * @param username
      * @param role
-     * @return
+     * @return SignInDto.Response
      */
-    public String generateToken(String username, Role role) {
+    public SignInDto.Response generateTokens(Long memberId, String username, Role role) {
+        return SignInDto.Response.builder()
+                .accessToken(generateToken(memberId, username, role, ACCESS_TOKEN, accessTokenTtl))
+                .refreshToken(generateToken(memberId, username, role, REFRESH_TOKEN, refreshTokenTtl))
+                .build();
+    }
+
+    /**
+     * 역할, 유저 ID, 토큰 종류, 토큰 ID(jti) 정보등을 포함한 토큰 생성
+     * @param memberId
+     * @param username
+     * @param role
+     * @param tokenType
+     * @param ttl
+     * @return String
+     */
+    private String generateToken(Long memberId, String username, Role role, String tokenType, Duration ttl) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", role.name());
-        return createToken(claims, username);
+        claims.put("memberId", memberId);
+        claims.put(TOKEN_TYPE, tokenType);
+        return createToken(claims, username, ttl);
     }
 
     /**
      * JWT 토큰 생성
      * @param claims
      * @param subject
-     * @return
+     * @param ttl
+     * @return String
      */
-    private String createToken(Map<String, Object> claims, String subject) {
+    private String createToken(Map<String, Object> claims, String subject, Duration ttl) {
+        long now = tokenRevocationList.nextTimestamp();
+        claims.put(TokenRevocationList.ISSUED_AT_MILLIS, now);
+
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + TOKEN_EXPIRE_TIME))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + ttl.toMillis()))
+                .signWith(SignatureAlgorithm.HS256, tokenVerifier.getSigningKey())
                 .compact();
     }
 
     /**
-     * 로그인 요청이 들어왔을 때
-     * 유저 데이터 검증
-     * @param jwt
-     * @return
-     */
-    public Authentication getAuthentication(String jwt) {
-        UserDetails userDetails = this.memberService.getMemberByUsername(this.getUsername(jwt));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
-    }
-
-    /**
-     * 토큰에 있는 역할 정보 추출
+     * 액세스 토큰 검증 (서명, 만료, 토큰 종류, 폐기 여부)
+     * 유효하지 않은 토큰이면 null
      * @param token
-     * @return
+     * @return Claims
      */
-    public Role getRole(String token) {
-        String role = parseClaims(token).get("role", String.class);
-        return Role.valueOf(role);
+    public Claims verifyAccessToken(String token) {
+        return verifyToken(token, ACCESS_TOKEN);
     }
 
     /**
-     * 토큰에 있는 유저 이름 정보 추출
-     * @param token
-     * @return
+     * 리프레시 토큰으로 새 토큰 발급
+     * 사용한 리프레시 토큰은 폐기 (재사용 불가), 변경된 유저 이름, 역할을 반영하기 위해 회원은 DB 에서 조회
+     * 같은 리프레시 토큰으로 동시에 요청하면 폐기에 성공한 한 요청만 새 토큰 발급
+     * 유효하지 않은 토큰 -> MemberException
+     * @param refreshToken
+     * @return SignInDto.Response
      */
-    public String getUsername(String token) {
-        return parseClaims(token).getSubject();
+    public SignInDto.Response refreshTokens(String refreshToken) {
+        Claims claims = verifyToken(refreshToken, REFRESH_TOKEN);
+
+        if (claims == null || !tokenRevocationList.revoke(claims)) {
+            throw new MemberException(ErrorCode.INVALID_TOKEN);
+        }
+
+        Member member = memberService.getMemberById(claims.get("memberId", Long.class));
+        return generateTokens(member.getId(), member.getUsername(), member.getRole());
     }
 
     /**
-     * 토큰이 유효한지 검증
-     * @param token
-     * @return
+     * 로그아웃 (액세스 토큰, 리프레시 토큰 폐기)
+     * @param accessToken
+     * @param refreshToken
      */
-    public boolean validateToken(String token) {
-        if (!StringUtils.hasText(token)) return false;
+    public void revokeTokens(String accessToken, String refreshToken) {
+        Claims accessClaims = verifyToken(accessToken, ACCESS_TOKEN);
+        if (accessClaims != null) {
+            tokenRevocationList.revoke(accessClaims);
+        }
 
-        Claims claims = parseClaims(token);
-        return !claims.getExpiration().before(new Date());
+        Claims refreshClaims = refreshToken == null ? null : verifyToken(refreshToken, REFRESH_TOKEN);
+        if (refreshClaims != null) {
+            tokenRevocationList.revoke(refreshClaims);
+        }
     }
 
-    /**
-     * 토큰 파싱 (Jwt -> Claims)
-     * @param token
-     * @return
-     */
-    private Claims parseClaims(String token) {
-        try {
-            return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
+    private Claims verifyToken(String token, String tokenType) {
+        Claims claims = tokenVerifier.verify(token);
+
+        if (claims == null
+                || !tokenType.equals(claims.get(TOKEN_TYPE, String.class))
+                || tokenRevocationList.isRevoked(claims)) {
+            return null;
         }
+
+        return claims;
     }
 
     /**
-     * 유효기간이 만료된 토큰인지 확인
-     * @param token
+     * 검증된 토큰의 Claims 로 인증 정보 생성
+     * CLAIMS 모드면 DB 조회 없이 토큰의 claim 으로, 아니면 캐시된 회원 정보로 인증 정보 생성
+     * @param claims
      * @return
      */
-    private boolean isTokenExpired(String token) {
-        return parseClaims(token).getExpiration().before(new Date());
+    public Authentication getAuthentication(Claims claims) {
+        if (authenticationMode == AuthenticationMode.CLAIMS) {
+            MemberPrincipal principal = new MemberPrincipal(
+                    claims.get("memberId", Long.class),
+                    claims.getSubject(),
+                    Role.valueOf(claims.get("role", String.class))
+            );
+            return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+        }
+
+        MemberPrincipal principal = this.memberService.getPrincipalByUsername(claims.getSubject());
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
 }
-
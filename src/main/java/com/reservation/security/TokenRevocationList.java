@@ -0,0 +1,158 @@
+package com.reservation.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 폐기된 토큰 목록 (메모리)
+ * 토큰 ID(jti)는 64bit 해시로 줄여서 만료 시각(분 단위) 버킷에 보관하고, 만료된 버킷은 통째로 제거
+ * 비밀번호 변경, 회원 삭제 시에는 회원 ID 별로 폐기 시각을 두고 그 전에 발급된 토큰을 모두 거부
+ * (발급 시각, 폐기 시각은 같은 순증가 시계(nextTimestamp)에서 받으므로 폐기 직후 발급된 토큰은 같은 밀리초여도 유효)
+ * 조회는 DB 없이 해시 조회 두 번
+ * 인스턴스 메모리에만 있으므로 재시작하면 사라지고 여러 인스턴스 사이에 공유되지 않음
+ * (여러 인스턴스로 운영하면 로그아웃한 토큰, 교체된 리프레시 토큰이 다른 인스턴스에서는 만료 전까지 유효
+ * -> 공유 저장소(Redis 등)로 옮기기 전까지는 액세스 토큰 TTL 을 짧게 유지하고 리프레시는 한 인스턴스로 보냄)
+ */
+@Component
+public class TokenRevocationList {
+
+    /**
+     * 토큰 발급 시각 (밀리초, nextTimestamp), iat 는 초 단위라 폐기 시각과 비교할 수 없음
+     */
+    public static final String ISSUED_AT_MILLIS = "iatMs";
+
+    private static final long BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final ConcurrentSkipListMap<Long, Set<Long>> revokedTokens = new ConcurrentSkipListMap<>();
+    private final Map<Long, Long> revokedMembers = new ConcurrentHashMap<>();
+    private final long refreshTokenTtlMillis;
+
+    public TokenRevocationList(
+            MeterRegistry meterRegistry,
+            @Value("${spring.jwt.refresh-token-ttl:P14D}") Duration refreshTokenTtl
+    ) {
+        this.refreshTokenTtlMillis = refreshTokenTtl.toMillis();
+
+        Gauge.builder("jwt.revoked.tokens", this, TokenRevocationList::revokedTokenCount)
+                .register(meterRegistry);
+        Gauge.builder("jwt.revoked.members", revokedMembers, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 하나 폐기 (로그아웃, 리프레시 토큰 교체)
+     * 이번 호출로 폐기했다면 true, 이미 폐기되어 있었다면 false (동시에 같은 토큰을 폐기하면 한 호출만 true)
+     * @param claims
+     * @return boolean
+     */
+    public boolean revoke(Claims claims) {
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            return false;
+        }
+
+        return revokedTokens.computeIfAbsent(bucketOf(claims.getExpiration()), key -> ConcurrentHashMap.newKeySet())
+                .add(hashOf(claims.getId()));
+    }
+
+    /**
+     * 토큰 발급, 회원 토큰 폐기에 쓰는 시각 (밀리초)
+     * 현재 시각을 따르되 호출할 때마다 이전 값보다 커서 발급과 폐기의 순서가 시각에 그대로 남음
+     * @return long
+     */
+    public long nextTimestamp() {
+        return clock.updateAndGet(last -> Math.max(System.currentTimeMillis(), last + 1));
+    }
+
+    /**
+     * 회원의 지금까지 발급된 토큰 모두 폐기 (비밀번호 변경, 회원 삭제)
+     * 이 호출 전에 발급된 토큰만 폐기하고 이후에 발급된 토큰은 유효
+     * @param memberId
+     */
+    public void revokeAll(Long memberId) {
+        revokedMembers.merge(memberId, nextTimestamp(), Math::max);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인
+     * @param claims
+     * @return boolean
+     */
+    public boolean isRevoked(Claims claims) {
+        Long memberId = claims.get("memberId", Long.class);
+        if (memberId != null) {
+            Long revokedAt = revokedMembers.get(memberId);
+            if (revokedAt != null && isIssuedBefore(claims, revokedAt)) {
+                return true;
+            }
+        }
+
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            return false;
+        }
+
+        Set<Long> bucket = revokedTokens.get(bucketOf(claims.getExpiration()));
+        return bucket != null && bucket.contains(hashOf(claims.getId()));
+    }
+
+    /**
+     * 만료된 토큰의 폐기 정보 제거
+     * 만료된 토큰은 서명 검증 단계에서 이미 거부되므로 더 보관할 필요 없음
+     */
+    @Scheduled(fixedDelayString = "${spring.jwt.revocation.purge-interval:PT1M}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+
+        revokedTokens.headMap(bucketOf(new Date(now))).clear();
+        revokedMembers.values().removeIf(revokedAt -> revokedAt + refreshTokenTtlMillis < now);
+    }
+
+    /**
+     * 토큰이 폐기 시각 전에 발급되었는지 확인
+     * 밀리초 발급 시각이 없는 토큰은 초 단위 iat 로 비교하고, 같은 초에 발급되었다면 폐기 전으로 봄
+     */
+    private static boolean isIssuedBefore(Claims claims, long revokedAt) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Long.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis < revokedAt;
+        }
+
+        return claims.getIssuedAt() == null
+                || claims.getIssuedAt().getTime() <= TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(revokedAt));
+    }
+
+    int revokedTokenCount() {
+        return revokedTokens.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 만료 시각을 분 단위로 올림 (버킷 안의 토큰은 모두 버킷 시각 전에 만료)
+     */
+    private static long bucketOf(Date expiration) {
+        return (expiration.getTime() + BUCKET_MILLIS - 1) / BUCKET_MILLIS;
+    }
+
+    private static long hashOf(String tokenId) {
+        try {
+            UUID uuid = UUID.fromString(tokenId);
+            return uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+        } catch (IllegalArgumentException e) {
+            return tokenId.hashCode();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.reservation.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * JWT 서명, 만료 검증
+ * 서명 키와 파서는 한 번만 만들어 재사용하고, 요청당 한 번만 파싱
+ * 최근 검증한 토큰은 SHA-256 다이제스트로 잠시 캐시해서 같은 토큰의 반복 요청은 HMAC 검증 생략
+ */
+@Component
+public class TokenVerifier {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+    private final Cache<ByteBuffer, Claims> verifiedTokens;
+
+    public TokenVerifier(
+            @Value("${spring.jwt.secret}") String secretKey,
+            @Value("${spring.jwt.verified-cache.ttl:30s}") Duration verifiedCacheTtl,
+            @Value("${spring.jwt.verified-cache.maximum-size:10000}") long verifiedCacheMaximumSize
+    ) {
+        this.signingKey = new SecretKeySpec(
+                secretKey.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName()
+        );
+        this.jwtParser = Jwts.parser().setSigningKey(signingKey);
+        this.verifiedTokens = verifiedCacheTtl.isZero()
+                ? null
+                : Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheMaximumSize)
+                        .expireAfterWrite(verifiedCacheTtl)
+                        .build();
+    }
+
+    /**
+     * 토큰 서명용 키
+     * @return Key
+     */
+    Key getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * 토큰 검증 후 Claims 반환
+     * 서명이 맞지 않거나 만료된 토큰이면 null
+     * @param token
+     * @return Claims
+     */
+    public Claims verify(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+
+        ByteBuffer digest = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+
+        if (claims == null) {
+            claims = parse(token);
+            if (claims != null) {
+                verifiedTokens.put(digest, claims);
+            }
+            return claims;
+        }
+
+        // 캐시에 있는 동안 만료된 토큰
+        if (claims.getExpiration() != null && claims.getExpiration().before(new Date())) {
+            verifiedTokens.invalidate(digest);
+            return null;
+        }
+
+        return claims;
+    }
+
+    /**
+     * 서명, 만료 검증 (파서가 만료 시간도 함께 검사)
+     * @param token
+     * @return Claims
+     */
+    private Claims parse(String token) {
+        try {
+            return jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -1,46 +1,260 @@
 package com.reservation.service;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.reservation.domain.Geocode;
 import com.reservation.exception.KakaoException;
+import com.reservation.repository.GeocodeRepository;
 import com.reservation.type.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+@Slf4j
 @Service
 public class KakaoMapService {
 
-    private static final String GEOCODING_API_URL = "https://dapi.kakao.com/v2/local/search/address.json";
+    private final GeocodeRepository geocodeRepository;
+    private final HttpClient kakaoHttpClient;
+    private final AsyncCache<String, GeocodeResult> geocodeCache;
+    private final Semaphore bulkhead;
+
+    private final String geocodingUrl;
+    private final String apiKey;
+    private final Duration readTimeout;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final boolean persistent;
+
+    public KakaoMapService(
+            GeocodeRepository geocodeRepository,
+            HttpClient kakaoHttpClient,
+            MeterRegistry meterRegistry,
+            @Value("${spring.kakao.geocoding-url:https://dapi.kakao.com/v2/local/search/address.json}") String geocodingUrl,
+            @Value("${spring.kakao.rest-api-key}") String apiKey,
+            @Value("${spring.kakao.client.read-timeout:3s}") Duration readTimeout,
+            @Value("${spring.kakao.client.max-concurrent-calls:16}") int maxConcurrentCalls,
+            @Value("${spring.kakao.geocode-cache.maximum-size:10000}") long maximumSize,
+            @Value("${spring.kakao.geocode-cache.ttl:P30D}") Duration ttl,
+            @Value("${spring.kakao.geocode-cache.negative-ttl:PT10M}") Duration negativeTtl,
+            @Value("${spring.kakao.geocode-cache.persistent:false}") boolean persistent
+    ) {
+        this.geocodeRepository = geocodeRepository;
+        this.kakaoHttpClient = kakaoHttpClient;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.geocodingUrl = geocodingUrl;
+        this.apiKey = apiKey;
+        this.readTimeout = readTimeout;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.persistent = persistent;
+
+        // 크기 제한 시 W-TinyLFU 로 제거, 찾지 못한 주소는 더 짧은 TTL 적용
+        this.geocodeCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, GeocodeResult>() {
+                    @Override
+                    public long expireAfterCreate(String address, GeocodeResult result, long currentTime) {
+                        return timeToLive(result).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(
+                            String address, GeocodeResult result, long currentTime, long currentDuration
+                    ) {
+                        return timeToLive(result).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(
+                            String address, GeocodeResult result, long currentTime, long currentDuration
+                    ) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, geocodeCache.synchronous(), "geocode");
+    }
+
+    /**
+     * 주소로 위도, 경도 비동기 조회
+     * 정규화한 주소를 키로 캐시를 먼저 확인하고, 없을 때만 카카오 API 호출
+     * 같은 주소에 대한 동시 요청은 하나의 호출 결과를 함께 사용
+     * 카카오 API 에는 대소문자를 바꾸지 않은 주소로 조회
+     * @param address
+     * @return CompletableFuture<double[]> (위도, 경도)
+     */
+    public CompletableFuture<double[]> getDistanceFromAddressAsync(String address) {
+        String query = normalizeQuery(address);
+
+        return geocodeCache.get(normalizeAddress(query), (key, executor) -> loadGeocode(key, query))
+                .thenApply(result -> {
+                    if (!result.found()) {
+                        throw new KakaoException(ErrorCode.ADDRESS_NOT_FOUND);
+                    }
+                    return new double[]{result.latitude(), result.longitude()};
+                });
+    }
+
+    /**
+     * 주소 좌표 캐시 통계 (hit, miss 등)
+     * @return CacheStats
+     */
+    public CacheStats getGeocodeCacheStats() {
+        return geocodeCache.synchronous().stats();
+    }
+
+    /**
+     * 캐시에 없는 주소 조회
+     * 저장 테이블을 사용하면 테이블을 먼저 확인하고, 카카오 API 결과를 테이블에도 저장
+     * @param address 캐시 키 (정규화한 주소)
+     * @param query 카카오 API 조회 주소
+     * @return CompletableFuture<GeocodeResult>
+     */
+    private CompletableFuture<GeocodeResult> loadGeocode(String address, String query) {
+        Optional<Geocode> stored = persistent
+                ? geocodeRepository.findByAddress(address)
+                : Optional.empty();
+
+        if (stored.isPresent() && stored.get().getExpiresAt().isAfter(LocalDateTime.now())) {
+            Geocode geocode = stored.get();
+            return CompletableFuture.completedFuture(
+                    new GeocodeResult(geocode.isFound(), geocode.getLatitude(), geocode.getLongitude())
+            );
+        }
+
+        CompletableFuture<GeocodeResult> result = requestGeocode(query);
+
+        if (persistent) {
+            return result.thenApply(geocodeResult -> {
+                saveGeocode(stored.orElseGet(Geocode::new), address, geocodeResult);
+                return geocodeResult;
+            });
+        }
+
+        return result;
+    }
 
-    @Value("${spring.kakao.rest-api-key}")
-    private String API_KEY;
+    /**
+     * 카카오 주소 검색 API 비동기 호출
+     * 동시 호출 수가 가득 차면 기다리지 않고 바로 실패
+     * @param address
+     * @return CompletableFuture<GeocodeResult>
+     */
+    private CompletableFuture<GeocodeResult> requestGeocode(String address) {
+        if (!bulkhead.tryAcquire()) {
+            return CompletableFuture.failedFuture(new KakaoException(ErrorCode.GEOCODING_UNAVAILABLE));
+        }
 
-    public double[] getDistanceFromAddress(String address) {
-        String url = GEOCODING_API_URL + "?query=" + address;
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(geocodingUrl + "?query=" + URLEncoder.encode(address, StandardCharsets.UTF_8)))
+                .header("Authorization", "KakaoAK " + apiKey)
+                .timeout(readTimeout)
+                .GET()
+                .build();
 
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + API_KEY);
-        HttpEntity<String> entity = new HttpEntity<>(headers);
+        try {
+            return kakaoHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, e) -> bulkhead.release())
+                    .thenApply(this::parseGeocode);
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+    }
 
-        String response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class).getBody();
+    /**
+     * 카카오 주소 검색 응답에서 첫 번째 결과의 좌표 추출
+     * @param response
+     * @return GeocodeResult
+     */
+    private GeocodeResult parseGeocode(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            log.warn("kakao geocoding failed. status = {}", response.statusCode());
+            throw new KakaoException(ErrorCode.GEOCODING_UNAVAILABLE);
+        }
 
-        JSONObject jsonResponse = new JSONObject(response);
+        JSONObject jsonResponse = new JSONObject(response.body());
         JSONArray documents = jsonResponse.getJSONArray("documents");
 
         if (!documents.isEmpty()) {
             JSONObject location = documents.getJSONObject(0);
             double lat = location.getDouble("y");
             double lng = location.getDouble("x");
-            return new double[]{lat, lng};
+            return new GeocodeResult(true, lat, lng);
         }
 
-        throw new KakaoException(ErrorCode.ADDRESS_NOT_FOUND);
+        return GeocodeResult.NOT_FOUND;
+    }
+
+    /**
+     * 조회 결과를 주소 좌표 테이블에 저장
+     * 다른 요청이 같은 주소를 먼저 저장했다면 무시
+     * @param geocode
+     * @param address
+     * @param result
+     */
+    private void saveGeocode(Geocode geocode, String address, GeocodeResult result) {
+        geocode.setAddress(address);
+        geocode.setFound(result.found());
+        geocode.setLatitude(result.latitude());
+        geocode.setLongitude(result.longitude());
+        geocode.setExpiresAt(LocalDateTime.now().plus(timeToLive(result)));
+
+        try {
+            geocodeRepository.save(geocode);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("geocode already saved. address = {}", address);
+        }
     }
 
+    private Duration timeToLive(GeocodeResult result) {
+        return result.found() ? ttl : negativeTtl;
+    }
+
+    /**
+     * 카카오 API 조회 주소 정규화 (앞뒤 공백 제거, 연속 공백 하나로)
+     * @param address
+     * @return String
+     */
+    static String normalizeQuery(String address) {
+        return address.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 캐시 키로 사용할 주소 정규화 (조회 주소 정규화 + 소문자)
+     * @param address
+     * @return String
+     */
+    static String normalizeAddress(String address) {
+        return normalizeQuery(address).toLowerCase(Locale.ROOT);
+    }
+
+    private record GeocodeResult(boolean found, Double latitude, Double longitude) {
+
+        private static final GeocodeResult NOT_FOUND = new GeocodeResult(false, null, null);
+
+    }
 }
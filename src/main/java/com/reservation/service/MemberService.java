@@ -1,5 +1,8 @@
 package com.reservation.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.reservation.domain.Member;
 import com.reservation.dto.member.MemberDto;
 import com.reservation.dto.member.SignInDto;
@@ -7,51 +10,83 @@ import com.reservation.dto.member.SignUpDto;
 import com.reservation.dto.member.UpdateMemberDto;
 import com.reservation.exception.MemberException;
 import com.reservation.repository.MemberRepository;
+import com.reservation.security.MemberPrincipal;
+import com.reservation.security.PasswordHasher;
+import com.reservation.security.TokenRevocationList;
 import com.reservation.type.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import com.reservation.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class MemberService {
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final MemberRepository memberRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final Executor applicationTaskExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, MemberPrincipal> principalCache;
+
+    public MemberService(
+            PasswordHasher passwordHasher,
+            MemberRepository memberRepository,
+            TokenRevocationList tokenRevocationList,
+            @Qualifier("applicationTaskExecutor") Executor applicationTaskExecutor,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spring.member.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${spring.member.principal-cache.ttl:PT5M}") Duration ttl
+    ) {
+        this.passwordHasher = passwordHasher;
+        this.memberRepository = memberRepository;
+        this.tokenRevocationList = tokenRevocationList;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, principalCache, "principal");
+    }
 
     /**
      * 회원 가입
+     * 비밀번호 암호화는 전용 스레드에서 처리하고, 저장은 애플리케이션 작업 스레드에서 처리
      * @param request
-     * @return MemberDto
+     * @return CompletableFuture<MemberDto>
      */
-    public MemberDto createMember(SignUpDto.Request request) {
+    public CompletableFuture<MemberDto> createMember(SignUpDto.Request request) {
         checkExistsMember(request.getUsername());
 
-        String encodePassword = getEncodePassword(request.getPassword());
-
-        return MemberDto.fromEntity(
-                memberRepository.save(
-                        Member.builder()
-                                .username(request.getUsername())
-                                .password(encodePassword)
-                                .phoneNumber(request.getPhoneNumber())
-                                .role(request.getRole())
-                                .build()
-                )
-        );
-    }
-
-    /**
-     * 비밀번호 암호화
-     * @param password
-     * @return String
-     */
-    private String getEncodePassword(String password) {
-        return passwordEncoder.encode(password);
+        return passwordHasher.encode(request.getPassword())
+                .thenApplyAsync(encodePassword -> MemberDto.fromEntity(
+                        memberRepository.save(
+                                Member.builder()
+                                        .username(request.getUsername())
+                                        .password(encodePassword)
+                                        .phoneNumber(request.getPhoneNumber())
+                                        .role(request.getRole())
+                                        .build()
+                        )
+                ), applicationTaskExecutor);
     }
 
     /**
@@ -76,19 +111,69 @@ public class MemberService {
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. " + username));
     }
 
+    /**
+     * 요청 인증용 유저 정보 조회 (캐시 사용)
+     * 회원 정보 수정, 삭제 시 캐시에서 제거
+     * @param username
+     * @return MemberPrincipal
+     */
+    public MemberPrincipal getPrincipalByUsername(String username) throws UsernameNotFoundException {
+        MemberPrincipal principal = principalCache.get(username, key -> memberRepository.findByUsername(key)
+                .map(member -> new MemberPrincipal(member.getId(), member.getUsername(), member.getRole()))
+                .orElse(null));
+
+        if (principal == null) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다. " + username);
+        }
+
+        return principal;
+    }
+
+    /**
+     * 인증용 유저 정보 캐시 통계 (hit, miss 등)
+     * @return CacheStats
+     */
+    public CacheStats getPrincipalCacheStats() {
+        return principalCache.stats();
+    }
+
     /**
      * 유저 이름, 비밀번호 확인
+     * 저장된 비밀번호가 현재 강도보다 약하게 암호화되어 있다면 로그인 응답과 별개로 다시 암호화
      * @param singInMember
-     * @return Member
+     * @return CompletableFuture<Member>
      */
-    public Member authenticate(SignInDto.Request singInMember) {
+    public CompletableFuture<Member> authenticate(SignInDto.Request singInMember) {
         Member member = (Member) getMemberByUsername(singInMember.getUsername());
 
-        if (!passwordEncoder.matches(singInMember.getPassword(), member.getPassword())) {
-            throw new MemberException(ErrorCode.PASSWORD_UNMATCHED);
-        }
+        return passwordHasher.matches(singInMember.getPassword(), member.getPassword())
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new MemberException(ErrorCode.PASSWORD_UNMATCHED);
+                    }
+
+                    if (passwordHasher.upgradeEncoding(member.getPassword())) {
+                        rehashPassword(member, singInMember.getPassword());
+                    }
 
-        return member;
+                    return member;
+                });
+    }
+
+    /**
+     * 새 강도로 비밀번호 다시 암호화 (실패해도 로그인에는 영향 없음)
+     * @param member
+     * @param rawPassword
+     */
+    private void rehashPassword(Member member, String rawPassword) {
+        passwordHasher.encode(rawPassword)
+                .thenAcceptAsync(encodePassword -> memberRepository.updatePassword(
+                        member.getId(), member.getPassword(), encodePassword, LocalDateTime.now()
+                ), applicationTaskExecutor)
+                .exceptionally(e -> {
+                    log.warn("password rehash failed. memberId = {}", member.getId(), e);
+                    return null;
+                });
     }
 
     /**
@@ -103,35 +188,75 @@ public class MemberService {
 
     /**
      * 특정 유저 정보 수정
+     * 비밀번호를 바꾸는 경우 암호화가 끝난 뒤 저장하고, 기존에 발급된 토큰은 모두 폐기
+     * 암호화하는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션은 암호화가 끝난 뒤에 시작
+     * @param memberId
+     * @param updateRequest
+     * @return CompletableFuture<MemberDto>
+     */
+    public CompletableFuture<MemberDto> updateMember(Long memberId, UpdateMemberDto updateRequest) {
+        if (updateRequest.getPassword() == null) {
+            return CompletableFuture.completedFuture(transactionTemplate.execute(
+                    status -> applyMemberUpdate(memberId, updateRequest, null)));
+        }
+
+        getMemberById(memberId);
+
+        return passwordHasher.encode(updateRequest.getPassword())
+                .thenApplyAsync(encodePassword -> {
+                    MemberDto updatedMember = transactionTemplate.execute(
+                            status -> applyMemberUpdate(memberId, updateRequest, encodePassword));
+                    tokenRevocationList.revokeAll(memberId);
+                    return updatedMember;
+                }, applicationTaskExecutor);
+    }
+
+    /**
+     * 트랜잭션 안에서 조회한 유저 정보를 바꾸고 변경 감지로 UPDATE
+     * (응답의 수정 시각을 위해 응답 생성 전에 flush, 인증용 캐시는 커밋 후에 제거)
      * @param memberId
      * @param updateRequest
+     * @param encodePassword
      * @return MemberDto
      */
-    public MemberDto updateMember(Long memberId, UpdateMemberDto updateRequest) {
+    private MemberDto applyMemberUpdate(Long memberId, UpdateMemberDto updateRequest, String encodePassword) {
         Member member = getMemberById(memberId);
+        String previousUsername = member.getUsername();
 
         if (updateRequest.getUsername() != null) {
             member.setUsername(updateRequest.getUsername());
         }
 
-        if (updateRequest.getPassword() != null) {
-            member.setPassword(getEncodePassword(updateRequest.getPassword()));
-        }
-
         if (updateRequest.getPhoneNumber() != null) {
             member.setPhoneNumber(updateRequest.getPhoneNumber());
         }
 
-        return MemberDto.fromEntity(
-                memberRepository.save(member)
-        );
+        if (encodePassword != null) {
+            member.setPassword(encodePassword);
+        }
+
+        memberRepository.flush();
+        TransactionUtils.runAfterCommit(() -> {
+            principalCache.invalidate(previousUsername);
+            principalCache.invalidate(member.getUsername());
+        });
+
+        return MemberDto.fromEntity(member);
     }
 
     /**
-     * 특정 유저 정보 삭제
+     * 특정 유저 정보 삭제 (발급된 토큰도 모두 폐기)
+     * 인증용 캐시 제거, 토큰 폐기는 커밋 후에 (삭제가 롤백되면 그대로 로그인 상태 유지)
      * @param memberId
      */
+    @Transactional
     public void deleteMember(Long memberId) {
-        memberRepository.deleteById(memberId);
+        memberRepository.findById(memberId).ifPresent(member -> {
+            memberRepository.delete(member);
+            TransactionUtils.runAfterCommit(() -> {
+                principalCache.invalidate(member.getUsername());
+                tokenRevocationList.revokeAll(memberId);
+            });
+        });
     }
 }
@@ -0,0 +1,55 @@
+package com.reservation.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 가까운 가게 k 개만 유지하는 크기 제한 힙
+ * 가장 먼 후보가 맨 위에 있어 더 가까운 후보가 들어오면 교체
+ */
+class NearestCollector {
+
+    private final int limit;
+    private final PriorityQueue<StoreGeoIndex.Neighbor> farthestFirst =
+            new PriorityQueue<>(StoreGeoIndex.NEAREST_ORDER.reversed());
+
+    NearestCollector(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * 후보 추가 (k 개가 찼다면 가장 먼 후보보다 가까울 때만 교체)
+     * @param storeId
+     * @param distanceKm
+     */
+    void offer(Long storeId, double distanceKm) {
+        StoreGeoIndex.Neighbor candidate = new StoreGeoIndex.Neighbor(storeId, distanceKm);
+
+        if (farthestFirst.size() < limit) {
+            farthestFirst.offer(candidate);
+        } else if (StoreGeoIndex.NEAREST_ORDER.compare(candidate, farthestFirst.peek()) < 0) {
+            farthestFirst.poll();
+            farthestFirst.offer(candidate);
+        }
+    }
+
+    /**
+     * k 개가 모두 찼고, 가장 먼 후보가 주어진 거리 안에 있는지 확인
+     * @param distanceKm
+     * @return boolean
+     */
+    boolean isFullWithin(double distanceKm) {
+        return farthestFirst.size() == limit && farthestFirst.peek().distanceKm() <= distanceKm;
+    }
+
+    /**
+     * 가까운 순으로 정렬된 결과
+     * @return List<StoreGeoIndex.Neighbor>
+     */
+    List<StoreGeoIndex.Neighbor> toSortedList() {
+        List<StoreGeoIndex.Neighbor> neighbors = new ArrayList<>(farthestFirst);
+        neighbors.sort(StoreGeoIndex.NEAREST_ORDER);
+        return neighbors;
+    }
+}
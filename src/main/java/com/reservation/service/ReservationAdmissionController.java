@@ -0,0 +1,142 @@
+package com.reservation.service;
+
+import com.reservation.domain.ReservationSlot;
+import com.reservation.repository.ReservationSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 가게, 시간대별 예약 인원을 메모리에서 먼저 판단하는 카운터
+ * 수용인원이 찬 시간대의 요청은 DB 까지 가지 않고 바로 거절
+ * 최종 판단은 reservation_slot 의 조건부 UPDATE 가 하므로, 다른 인스턴스의 예약으로 카운터가 낮게 잡혀도 초과 예약은 생기지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationAdmissionController {
+
+    private final ReservationSlotRepository reservationSlotRepository;
+
+    private final ConcurrentMap<SlotKey, AtomicInteger> counters = new ConcurrentHashMap<>();
+    private volatile LocalDateTime evictedBefore = LocalDateTime.MIN;
+
+    /**
+     * 현재 이후 시간대의 예약 인원을 DB 와 맞춤 (애플리케이션 시작 시, 이후 주기적으로)
+     * 다른 인스턴스의 예약, 취소로 생긴 차이를 바로잡음
+     * 맞추는 동안 진행 중인 트랜잭션의 인원은 빠질 수 있지만, 카운터가 낮으면 DB 장부가 최종 판단하므로 초과 예약은 없음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${spring.reservation.admission.reconcile-interval:PT1M}",
+            fixedDelayString = "${spring.reservation.admission.reconcile-interval:PT1M}"
+    )
+    public void reconcile() {
+        List<ReservationSlot> slots = reservationSlotRepository.findAllBySlotTimeGreaterThanEqual(
+                ReservationSlot.slotOf(LocalDateTime.now())
+        );
+
+        Map<SlotKey, Integer> reservedNums = slots.stream()
+                .collect(Collectors.toMap(
+                        slot -> new SlotKey(slot.getStore().getId(), slot.getSlotTime()),
+                        ReservationSlot::getReservedNum
+                ));
+
+        counters.keySet().removeIf(key -> !reservedNums.containsKey(key));
+        reservedNums.forEach((key, reservedNum) ->
+                counters.computeIfAbsent(key, k -> new AtomicInteger()).set(reservedNum));
+
+        log.info("reservation admission counters reconciled. slots = {}", counters.size());
+    }
+
+    /**
+     * 수용인원을 넘지 않으면 예약 인원을 늘리고 true (CAS 로 락 없이 처리)
+     * @param storeId
+     * @param slotTime
+     * @param visitorNum
+     * @param capacity
+     * @return boolean
+     */
+    public boolean tryAdmit(Long storeId, LocalDateTime slotTime, int visitorNum, int capacity) {
+        evictPastSlots();
+
+        AtomicInteger counter = counters.computeIfAbsent(
+                new SlotKey(storeId, slotTime), key -> new AtomicInteger()
+        );
+
+        while (true) {
+            int current = counter.get();
+            int next = current + visitorNum;
+
+            if (next > capacity) {
+                return false;
+            }
+
+            if (counter.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 예약 인원 반환
+     * @param storeId
+     * @param slotTime
+     * @param visitorNum
+     */
+    public void release(Long storeId, LocalDateTime slotTime, int visitorNum) {
+        AtomicInteger counter = counters.get(new SlotKey(storeId, slotTime));
+
+        if (counter != null) {
+            counter.updateAndGet(current -> Math.max(0, current - visitorNum));
+        }
+    }
+
+    /**
+     * 반환했던 예약 인원을 되돌림 (반환한 트랜잭션이 롤백된 경우, 수용인원 확인 없이 더함)
+     * @param storeId
+     * @param slotTime
+     * @param visitorNum
+     */
+    public void restore(Long storeId, LocalDateTime slotTime, int visitorNum) {
+        counters.computeIfAbsent(new SlotKey(storeId, slotTime), key -> new AtomicInteger())
+                .addAndGet(visitorNum);
+    }
+
+    /**
+     * 현재 예약 인원 (없으면 0)
+     * @param storeId
+     * @param slotTime
+     * @return int
+     */
+    public int reservedNum(Long storeId, LocalDateTime slotTime) {
+        AtomicInteger counter = counters.get(new SlotKey(storeId, slotTime));
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * 시간대가 바뀌면 지난 시간대 카운터 제거
+     */
+    private void evictPastSlots() {
+        LocalDateTime currentSlot = ReservationSlot.slotOf(LocalDateTime.now());
+
+        if (currentSlot.isAfter(evictedBefore)) {
+            evictedBefore = currentSlot;
+            counters.keySet().removeIf(key -> key.slotTime().isBefore(currentSlot));
+        }
+    }
+
+    private record SlotKey(Long storeId, LocalDateTime slotTime) {
+    }
+}
@@ -7,32 +7,44 @@ import com.reservation.dto.reservation.ReservationDto;
 import com.reservation.dto.reservation.UpdateReservationDto;
 import com.reservation.exception.ReservationException;
 import com.reservation.repository.ReservationRepository;
+import com.reservation.repository.SummaryStreamRepository;
+import com.reservation.repository.projection.ReservationSummary;
 import com.reservation.type.ErrorCode;
 import com.reservation.type.ReservationStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ReservationService {
 
     private final MemberService memberService;
     private final StoreService storeService;
+    private final ReservationSlotService reservationSlotService;
     private final ReservationRepository reservationRepository;
+    private final SummaryStreamRepository summaryStreamRepository;
 
     /**
      * 예약 등록 신청
+     * 예약 시간대의 수용인원을 먼저 차감하고 예약 저장
      * @param request
      * @return ReservationDto.Response
      */
+    @Transactional
     public ReservationDto.Response createReservation(ReservationDto.Request request) {
         Member member = memberService.getMemberById(request.getMemberId());
         Store store = storeService.getStoreById(request.getStoreId());
@@ -40,9 +52,7 @@ public class ReservationService {
         checkReservationTime(request.getReservationDate());
         checkExistsReservation(member, store, request.getReservationDate());
 
-        if (!possibleReservation(request.getVisitorNum(), store)) {
-           throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_OVER);
-        }
+        reservationSlotService.reserve(store, request.getReservationDate(), request.getVisitorNum());
 
         return ReservationDto.Response.fromEntity(
                 reservationRepository.save(
@@ -93,21 +103,12 @@ public class ReservationService {
     }
 
     /**
-     * 가게의 수용인원을 기준으로 예약가능 불가능 판단
-     * @param requestVisitorNum
-     * @param store
+     * 예약이 시간대의 수용인원을 차지하고 있는지 확인 (거절된 예약은 반환됨)
+     * @param reservation
      * @return boolean
      */
-    public boolean possibleReservation(Integer requestVisitorNum, Store store) {
-        Integer sumVisitorNum = reservationRepository.sumVisitorNumByStore(store);
-
-        log.info("sumVisitorNum = {}", sumVisitorNum);
-
-        sumVisitorNum += requestVisitorNum;
-
-        log.info("sumVisitorNum = {}", sumVisitorNum);
-
-        return sumVisitorNum <= store.getCapacityPerson();
+    private boolean holdsCapacity(Reservation reservation) {
+        return reservation.getStatus() != ReservationStatus.REJECTION;
     }
 
     /**
@@ -123,7 +124,7 @@ public class ReservationService {
         if (localDate != null) {
             List<Reservation> reservationList =
                     reservationRepository.findReservationsByStoreAndDate(
-                            store, localDate
+                            store, localDate.atStartOfDay(), localDate.plusDays(1).atStartOfDay()
                     );
 
             return reservationList.stream()
@@ -139,6 +140,45 @@ public class ReservationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 특정 가게에 대한 예약 목록 요약 조회 (view=summary)
+     * 가게 정보 없이 예약, 예약자 컬럼만 조회
+     * @param storeId
+     * @param localDate
+     * @return List<ReservationDto.Summary>
+     */
+    public List<ReservationDto.Summary> getReservationSummariesByStoreId(Long storeId, LocalDate localDate) {
+        storeService.getStoreById(storeId);
+
+        List<ReservationSummary> reservationList = localDate != null
+                ? reservationRepository.findSummariesByStoreIdAndDate(
+                        storeId, localDate.atStartOfDay(), localDate.plusDays(1).atStartOfDay())
+                : reservationRepository.findSummariesByStoreId(storeId);
+
+        return reservationList.stream()
+                .map(ReservationDto.Summary::fromProjection)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 특정 가게에 대한 예약 요약을 DB 에서 읽는 대로 하나씩 전달 (목록을 메모리에 모으지 않음)
+     * 가게가 있는지는 응답을 시작하기 전에 확인
+     * @param storeId
+     * @param localDate
+     * @param consumer
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamReservationSummariesByStoreId(
+            Long storeId, LocalDate localDate, Consumer<ReservationDto.Summary> consumer
+    ) {
+        try (Stream<ReservationSummary> reservations = localDate != null
+                ? summaryStreamRepository.streamReservationSummariesByStoreIdAndDate(
+                        storeId, localDate.atStartOfDay(), localDate.plusDays(1).atStartOfDay())
+                : summaryStreamRepository.streamReservationSummariesByStoreId(storeId)) {
+            reservations.map(ReservationDto.Summary::fromProjection).forEach(consumer);
+        }
+    }
+
     /**
      * 특정 예약 정보 조회
      * @param reservationId
@@ -149,47 +189,88 @@ public class ReservationService {
                 .orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_NOT_FOUND));
     }
 
+    /**
+     * 특정 예약 정보 조회 (예약자, 가게 정보 포함 응답은 트랜잭션 안에서 생성)
+     * @param reservationId
+     * @return ReservationDto.Response
+     */
+    public ReservationDto.Response getReservationDetails(Long reservationId) {
+        return ReservationDto.Response.fromEntity(getReservationById(reservationId));
+    }
+
     /**
      * 예약 승인
      * 가게 측에서 예약 승인시
-     * 예약 상태정보 업데이트
+     * 예약 상태정보 업데이트 (WAITING -> CONFIRMATION)
      * @param reservationId
      * @return ReservationDto.Response
      */
+    @Transactional
     public ReservationDto.Response confirmReservation(Long reservationId) {
-        Reservation reservation = getReservationById(reservationId);
-
-        reservation.setStatus(ReservationStatus.CONFIRMATION);
+        changeStatus(getReservationById(reservationId), ReservationStatus.CONFIRMATION);
 
-        return ReservationDto.Response.fromEntity(
-                reservationRepository.save(reservation)
-        );
+        return ReservationDto.Response.fromEntity(getReservationById(reservationId));
     }
 
     /**
      * 예약 거절
      * 가게 측에서 예약 거절시
-     * 예약 상태정보 업데이트
+     * 예약 상태정보 업데이트 (WAITING -> REJECTION), 차지하던 수용인원 반환
+     * 읽은 뒤로 예약이 바뀌지 않았을 때만 거절하므로, 반환하는 일시, 인원은 거절한 행의 값과 같음
      * @param reservationId
      * @return ReservationDto.Response
      */
+    @Transactional
     public ReservationDto.Response rejectReservation(Long reservationId) {
         Reservation reservation = getReservationById(reservationId);
 
-        reservation.setStatus(ReservationStatus.REJECTION);
+        changeStatus(reservation, ReservationStatus.REJECTION);
 
-        return ReservationDto.Response.fromEntity(
-                reservationRepository.save(reservation)
+        reservationSlotService.release(
+                reservation.getStore(), reservation.getReservationDate(), reservation.getVisitorNum()
         );
+
+        return ReservationDto.Response.fromEntity(getReservationById(reservationId));
+    }
+
+    /**
+     * 예약 상태 변경
+     * 읽은 뒤로 예약이 바뀌지 않았고 현재 상태가 변경 가능한 상태일 때만 조건부 UPDATE 한 번으로 반영
+     * 다른 요청이 먼저 예약을 바꿨다면 ReservationException
+     * @param reservation
+     * @param nextStatus
+     */
+    private void changeStatus(Reservation reservation, ReservationStatus nextStatus) {
+        int updated = reservationRepository.updateStatus(
+                reservation.getId(), reservation.getVersion(),
+                nextStatus.allowedFrom(), nextStatus, LocalDateTime.now()
+        );
+
+        if (updated == 0) {
+            throw statusConflict(reservation.getId());
+        }
+    }
+
+    /**
+     * 상태 변경에 실패한 이유 (예약이 없거나, 변경할 수 없는 상태)
+     * @param reservationId
+     * @return ReservationException
+     */
+    private ReservationException statusConflict(Long reservationId) {
+        if (!reservationRepository.existsById(reservationId)) {
+            return new ReservationException(ErrorCode.RESERVATION_NOT_FOUND);
+        }
+        return new ReservationException(ErrorCode.RESERVATION_STATUS_CONFLICT);
     }
 
     /**
      * 도착 확인
      * 도착 했을 당시 예약시간 10분 전인지 체크 후
-     * 도착 정보 업데이트
+     * 도착 정보 업데이트 (WAITING, CONFIRMATION -> CONFIRMATION, 한 번만 가능)
      * @param reservationId
      * @return ReservationDto.Response
      */
+    @Transactional
     public ReservationDto.Response visitReservation(Long reservationId, Long memberId) {
         Reservation reservation = getReservationById(reservationId);
 
@@ -197,12 +278,16 @@ public class ReservationService {
         checkSameDate(reservation);
         checkTimeOver(reservation);
 
-        reservation.setStatus(ReservationStatus.CONFIRMATION);
-        reservation.setVisited(true);
-
-        return ReservationDto.Response.fromEntity(
-                reservationRepository.save(reservation)
+        int updated = reservationRepository.updateVisited(
+                reservationId, ReservationStatus.visitable(),
+                ReservationStatus.CONFIRMATION, LocalDateTime.now()
         );
+
+        if (updated == 0) {
+            throw statusConflict(reservationId);
+        }
+
+        return ReservationDto.Response.fromEntity(getReservationById(reservationId));
     }
 
     /**
@@ -246,41 +331,72 @@ public class ReservationService {
 
     /**
      * 특정 예약 정보 수정
+     * 기존 시간대의 수용인원을 반환하고 변경된 시간대, 인원으로 다시 차감
+     * 읽은 뒤로 예약이 바뀌지 않았을 때만 조건부 UPDATE 로 반영
+     * (점주의 거절 등 다른 요청이 먼저 바꿨다면 ReservationException, 수용인원 변경도 함께 롤백)
      * @param reservationId
      * @param updateRequest
      * @return ReservationDto.Response
      */
+    @Transactional
     public ReservationDto.Response reservationUpdate(
             Long reservationId, UpdateReservationDto updateRequest
     ) {
         Reservation reservation = getReservationById(reservationId);
 
-        if (updateRequest.getVisitorNum() != null) {
-            if (!possibleReservation(updateRequest.getVisitorNum(), reservation.getStore())) {
-                throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_OVER);
-            }
-            reservation.setVisitorNum(updateRequest.getVisitorNum());
-        }
-
         if (updateRequest.getReservationDate() != null) {
             checkReservationTime(updateRequest.getReservationDate());
-            reservation.setReservationDate(updateRequest.getReservationDate());
         }
 
-        reservation.setStatus(ReservationStatus.WAITING);
+        int visitorNum = updateRequest.getVisitorNum() != null
+                ? updateRequest.getVisitorNum()
+                : reservation.getVisitorNum();
+        LocalDateTime reservationDate = updateRequest.getReservationDate() != null
+                ? updateRequest.getReservationDate()
+                : reservation.getReservationDate();
+
+        if (holdsCapacity(reservation)) {
+            reservationSlotService.release(
+                    reservation.getStore(), reservation.getReservationDate(), reservation.getVisitorNum()
+            );
+        }
 
-        return ReservationDto.Response.fromEntity(
-                reservationRepository.save(reservation)
+        reservationSlotService.reserve(reservation.getStore(), reservationDate, visitorNum);
+
+        int updated = reservationRepository.updateReservation(
+                reservationId, reservation.getVersion(), visitorNum, reservationDate,
+                ReservationStatus.WAITING, LocalDateTime.now()
         );
+
+        if (updated == 0) {
+            throw statusConflict(reservationId);
+        }
+
+        return ReservationDto.Response.fromEntity(getReservationById(reservationId));
     }
 
     /**
      * 특정 예약 정보 삭제
+     * 차지하던 수용인원 반환
+     * 읽은 뒤로 예약이 바뀌었다면 ReservationException (수용인원 반환도 함께 롤백)
      * @param reservationId
      */
+    @Transactional
     public void reservationDelete(Long reservationId) {
         Reservation reservation = getReservationById(reservationId);
-        reservationRepository.delete(reservation);
+
+        if (holdsCapacity(reservation)) {
+            reservationSlotService.release(
+                    reservation.getStore(), reservation.getReservationDate(), reservation.getVisitorNum()
+            );
+        }
+
+        try {
+            reservationRepository.delete(reservation);
+            reservationRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw statusConflict(reservationId);
+        }
     }
 
     /**
@@ -0,0 +1,97 @@
+package com.reservation.service;
+
+import com.reservation.domain.ReservationSlot;
+import com.reservation.domain.Store;
+import com.reservation.exception.ReservationException;
+import com.reservation.repository.ReservationSlotRepository;
+import com.reservation.type.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class ReservationSlotService {
+
+    private final ReservationAdmissionController reservationAdmissionController;
+    private final ReservationSlotRepository reservationSlotRepository;
+
+    /**
+     * 예약 시간대의 수용인원 차감
+     * 메모리 카운터에서 먼저 판단하고, 통과한 요청만 DB 장부에 반영
+     * 차감하지 못했다면 시간대 행이 없을 수 있으므로 행을 만들고 한 번 더 시도
+     * 트랜잭션이 롤백되면 메모리 카운터도 되돌림
+     * 수용인원 초과 -> ReservationException
+     * @param store
+     * @param reservationDate
+     * @param visitorNum
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Store store, LocalDateTime reservationDate, int visitorNum) {
+        Long storeId = store.getId();
+        LocalDateTime slotTime = ReservationSlot.slotOf(reservationDate);
+
+        if (!reservationAdmissionController.tryAdmit(
+                storeId, slotTime, visitorNum, store.getCapacityPerson())) {
+            throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_OVER);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    reservationAdmissionController.release(storeId, slotTime, visitorNum);
+                }
+            }
+        });
+
+        if (tryReserve(store, slotTime, visitorNum)) {
+            return;
+        }
+
+        reservationSlotRepository.insertIfAbsent(storeId, slotTime, LocalDateTime.now());
+
+        if (tryReserve(store, slotTime, visitorNum)) {
+            return;
+        }
+
+        throw new ReservationException(ErrorCode.RESERVATION_CAPACITY_OVER);
+    }
+
+    /**
+     * 예약 시간대의 수용인원 반환
+     * 메모리 카운터도 바로 반환해서, 같은 트랜잭션에서 이어서 차감(예약 수정)할 때 인원이 두 번 잡히지 않도록 함
+     * 트랜잭션이 롤백되면 메모리 카운터를 되돌림
+     * @param store
+     * @param reservationDate
+     * @param visitorNum
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Store store, LocalDateTime reservationDate, int visitorNum) {
+        Long storeId = store.getId();
+        LocalDateTime slotTime = ReservationSlot.slotOf(reservationDate);
+
+        reservationSlotRepository.release(storeId, slotTime, visitorNum, LocalDateTime.now());
+        reservationAdmissionController.release(storeId, slotTime, visitorNum);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    reservationAdmissionController.restore(storeId, slotTime, visitorNum);
+                }
+            }
+        });
+    }
+
+    private boolean tryReserve(Store store, LocalDateTime slotTime, int visitorNum) {
+        return reservationSlotRepository.reserve(
+                store.getId(), slotTime, visitorNum, store.getCapacityPerson(), LocalDateTime.now()
+        ) > 0;
+    }
+}
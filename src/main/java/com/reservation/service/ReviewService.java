@@ -3,33 +3,55 @@ package com.reservation.service;
 import com.reservation.domain.Member;
 import com.reservation.domain.Review;
 import com.reservation.domain.Store;
+import com.reservation.dto.CursorResponse;
 import com.reservation.dto.review.ReviewDto;
 import com.reservation.dto.review.UpdateReviewDto;
 import com.reservation.exception.ReviewException;
 import com.reservation.repository.ReviewRepository;
+import com.reservation.repository.SummaryStreamRepository;
+import com.reservation.repository.projection.ResourceVersion;
+import com.reservation.repository.projection.ReviewSummary;
 import com.reservation.type.ErrorCode;
+import com.reservation.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ReviewService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MemberService memberService;
     private final StoreService storeService;
     private final ReservationService reservationService;
     private final ReviewRepository reviewRepository;
+    private final SummaryStreamRepository summaryStreamRepository;
 
     /**
      * 리뷰 등록
      * 방문한 고객인지 확인 및 이미 리뷰가 존재하는지 확인
+     * 리뷰 저장과 같은 트랜잭션에서 가게 평점 합계, 리뷰 개수 갱신
      * @param request
      * @return ReviewDto.Response
      */
+    @Transactional
     public ReviewDto.Response createReview(ReviewDto.Request request) {
         Member member = memberService.getMemberById(request.getMemberId());
         Store store = storeService.getStoreById(request.getStoreId());
@@ -39,20 +61,19 @@ public class ReviewService {
         }
         checkExistsReview(member, store);
 
-        storeService.updateStoreRating(
-                request.getStoreId(), getRatingAverage(request.getStoreId())
+        Review review = reviewRepository.save(
+                Review.builder()
+                        .member(member)
+                        .store(store)
+                        .content(request.getContent())
+                        .rating(request.getRating())
+                        .build()
         );
+        ReviewDto.Response response = ReviewDto.Response.fromEntity(review);
 
-        return ReviewDto.Response.fromEntity(
-                reviewRepository.save(
-                        Review.builder()
-                                .member(member)
-                                .store(store)
-                                .content(request.getContent())
-                                .rating(request.getRating())
-                                .build()
-                )
-        );
+        storeService.addStoreRating(store.getId(), review.getRating(), 1);
+
+        return response;
     }
 
     /**
@@ -71,30 +92,264 @@ public class ReviewService {
     }
 
     /**
-     * 특정 가게에 대한 리뷰 목록 조회
+     * 특정 가게에 대한 리뷰 목록 조회 (커서 기반)
+     * 최신순(같은 시간은 ID 역순) 또는 평점순(같은 평점은 ID 역순) 정렬
      * @param storeId
-     * @return List<ReviewDto.Response>
+     * @param sortType
+     * @param cursor
+     * @param size
+     * @return CursorResponse<ReviewDto.Response>
      */
-    public List<ReviewDto.Response> getReviewsByStoreId(Long storeId) {
-        Store store = storeService.getStoreById(storeId);
-        List<Review> reviewListByStore = reviewRepository.findAllByStore(store);
+    public CursorResponse<ReviewDto.Response> getReviewsByStoreId(
+            Long storeId, String sortType, String cursor, int size
+    ) {
+        return toCursorResponse(
+                findReviewIdsByStoreId(storeId, sortType, cursor, size), size,
+                this::getReviewsInOrder, ReviewDto.Response::fromEntity, reviewCursorOf(sortType)
+        );
+    }
 
-        return reviewListByStore.stream()
-                .map(ReviewDto.Response::fromEntity)
-                .collect(Collectors.toList());
+    /**
+     * 특정 가게에 대한 리뷰 목록 요약 조회 (view=summary)
+     * 정렬, 커서는 getReviewsByStoreId 와 같고, 리뷰/작성자/가게의 필요한 컬럼만 조회
+     * @param storeId
+     * @param sortType
+     * @param cursor
+     * @param size
+     * @return CursorResponse<ReviewDto.Summary>
+     */
+    public CursorResponse<ReviewDto.Summary> getReviewSummariesByStoreId(
+            Long storeId, String sortType, String cursor, int size
+    ) {
+        return toCursorResponse(
+                findReviewIdsByStoreId(storeId, sortType, cursor, size), size,
+                this::getReviewSummariesInOrder, ReviewDto.Summary::fromProjection, summaryCursorOf(sortType)
+        );
+    }
+
+    /**
+     * 특정 유저가 작성한 리뷰 목록 조회 (커서 기반)
+     * 최신순(같은 시간은 ID 역순) 또는 평점순(같은 평점은 ID 역순) 정렬
+     * @param memberId
+     * @param sortType
+     * @param cursor
+     * @param size
+     * @return CursorResponse<ReviewDto.Response>
+     */
+    public CursorResponse<ReviewDto.Response> getReviewsByMemberId(
+            Long memberId, String sortType, String cursor, int size
+    ) {
+        return toCursorResponse(
+                findReviewIdsByMemberId(memberId, sortType, cursor, size), size,
+                this::getReviewsInOrder, ReviewDto.Response::fromEntity, reviewCursorOf(sortType)
+        );
+    }
+
+    /**
+     * 특정 유저가 작성한 리뷰 목록 요약 조회 (view=summary)
+     * @param memberId
+     * @param sortType
+     * @param cursor
+     * @param size
+     * @return CursorResponse<ReviewDto.Summary>
+     */
+    public CursorResponse<ReviewDto.Summary> getReviewSummariesByMemberId(
+            Long memberId, String sortType, String cursor, int size
+    ) {
+        return toCursorResponse(
+                findReviewIdsByMemberId(memberId, sortType, cursor, size), size,
+                this::getReviewSummariesInOrder, ReviewDto.Summary::fromProjection, summaryCursorOf(sortType)
+        );
+    }
+
+    /**
+     * 특정 가게 리뷰 요약을 최신순으로 DB 에서 읽는 대로 하나씩 전달 (목록을 메모리에 모으지 않음)
+     * 가게가 있는지는 응답을 시작하기 전에 확인
+     * @param storeId
+     * @param consumer
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamReviewSummariesByStoreId(Long storeId, Consumer<ReviewDto.Summary> consumer) {
+        try (Stream<ReviewSummary> reviews = summaryStreamRepository.streamReviewSummariesByStoreId(storeId)) {
+            reviews.map(ReviewDto.Summary::fromProjection).forEach(consumer);
+        }
+    }
+
+    /**
+     * 특정 유저 리뷰 요약을 최신순으로 DB 에서 읽는 대로 하나씩 전달 (목록을 메모리에 모으지 않음)
+     * 유저가 있는지는 응답을 시작하기 전에 확인
+     * @param memberId
+     * @param consumer
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamReviewSummariesByMemberId(Long memberId, Consumer<ReviewDto.Summary> consumer) {
+        try (Stream<ReviewSummary> reviews = summaryStreamRepository.streamReviewSummariesByMemberId(memberId)) {
+            reviews.map(ReviewDto.Summary::fromProjection).forEach(consumer);
+        }
     }
 
     /**
-     * 특정 유저가 작성한 리뷰 목록 조회
-     * @param memberid
-     * @return List<ReviewDto.Response>
+     * 특정 가게 리뷰 ID 를 정렬, 커서 조건으로 size + 1 개 조회
+     * @param storeId
+     * @param sortType
+     * @param cursor
+     * @param size
+     * @return List<Long>
      */
-    public List<ReviewDto.Response> getReviewsByMemberId(Long memberid) {
-        Member member = memberService.getMemberById(memberid);
-        List<Review> reviewListByMember = reviewRepository.findAllByMember(member);
+    private List<Long> findReviewIdsByStoreId(Long storeId, String sortType, String cursor, int size) {
+        checkPageSize(size);
+
+        Pageable pageable = PageRequest.ofSize(size + 1);
+
+        List<Long> reviewIds;
+        if ("rating".equals(sortType)) {
+            reviewIds = cursor == null
+                    ? reviewRepository.findIdsByStoreOrderByRating(storeId, pageable)
+                    : parseCursor(cursor, values -> reviewRepository.findIdsByStoreOrderByRatingAfter(
+                            storeId, Double.parseDouble(values[0]), Long.parseLong(values[1]), pageable
+                    ));
+        } else {
+            reviewIds = cursor == null
+                    ? reviewRepository.findIdsByStoreOrderByCreatedAt(storeId, pageable)
+                    : parseCursor(cursor, values -> reviewRepository.findIdsByStoreOrderByCreatedAtAfter(
+                            storeId, LocalDateTime.parse(values[0]), Long.parseLong(values[1]), pageable
+                    ));
+        }
+
+        // 리뷰가 없을 때만 대상이 존재하는지 확인 (없으면 NOT_FOUND)
+        if (reviewIds.isEmpty()) {
+            storeService.getStoreById(storeId);
+        }
 
-        return reviewListByMember.stream()
-                .map(ReviewDto.Response::fromEntity)
+        return reviewIds;
+    }
+
+    /**
+     * 특정 유저 리뷰 ID 를 정렬, 커서 조건으로 size + 1 개 조회
+     * @param memberId
+     * @param sortType
+     * @param cursor
+     * @param size
+     * @return List<Long>
+     */
+    private List<Long> findReviewIdsByMemberId(Long memberId, String sortType, String cursor, int size) {
+        checkPageSize(size);
+
+        Pageable pageable = PageRequest.ofSize(size + 1);
+
+        List<Long> reviewIds;
+        if ("rating".equals(sortType)) {
+            reviewIds = cursor == null
+                    ? reviewRepository.findIdsByMemberOrderByRating(memberId, pageable)
+                    : parseCursor(cursor, values -> reviewRepository.findIdsByMemberOrderByRatingAfter(
+                            memberId, Double.parseDouble(values[0]), Long.parseLong(values[1]), pageable
+                    ));
+        } else {
+            reviewIds = cursor == null
+                    ? reviewRepository.findIdsByMemberOrderByCreatedAt(memberId, pageable)
+                    : parseCursor(cursor, values -> reviewRepository.findIdsByMemberOrderByCreatedAtAfter(
+                            memberId, LocalDateTime.parse(values[0]), Long.parseLong(values[1]), pageable
+                    ));
+        }
+
+        // 리뷰가 없을 때만 대상이 존재하는지 확인 (없으면 NOT_FOUND)
+        if (reviewIds.isEmpty()) {
+            memberService.getMemberById(memberId);
+        }
+
+        return reviewIds;
+    }
+
+    private static Function<Review, String> reviewCursorOf(String sortType) {
+        return "rating".equals(sortType)
+                ? review -> CursorUtils.encode(review.getRating(), review.getId())
+                : review -> CursorUtils.encode(review.getCreatedAt(), review.getId());
+    }
+
+    private static Function<ReviewSummary, String> summaryCursorOf(String sortType) {
+        return "rating".equals(sortType)
+                ? review -> CursorUtils.encode(review.getRating(), review.getReviewId())
+                : review -> CursorUtils.encode(review.getCreatedAt(), review.getReviewId());
+    }
+
+    /**
+     * 페이지 크기 검증
+     * @param size
+     */
+    private void checkPageSize(int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new ReviewException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    /**
+     * 커서 해석 (정렬 키, 리뷰 ID)
+     * @param cursor
+     * @param parser
+     * @return T
+     */
+    private <T> T parseCursor(String cursor, Function<String[], T> parser) {
+        try {
+            return parser.apply(CursorUtils.decode(cursor, 2));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ReviewException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 다음 페이지 확인용으로 size + 1 개 조회한 리뷰 ID 목록을 응답으로 변환
+     * @param reviewIds
+     * @param size
+     * @param loader ID 목록 순서대로 리뷰(또는 요약) 조회
+     * @param mapper
+     * @param cursorOf
+     * @return CursorResponse<R>
+     */
+    private <T, R> CursorResponse<R> toCursorResponse(
+            List<Long> reviewIds, int size, Function<List<Long>, List<T>> loader,
+            Function<T, R> mapper, Function<T, String> cursorOf
+    ) {
+        boolean hasNext = reviewIds.size() > size;
+        List<T> page = loader.apply(hasNext ? reviewIds.subList(0, size) : reviewIds);
+
+        String nextCursor = hasNext && !page.isEmpty()
+                ? cursorOf.apply(page.get(page.size() - 1))
+                : null;
+
+        return CursorResponse.<R>builder()
+                .content(page.stream()
+                        .map(mapper)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * ID 목록 순서대로 리뷰 조회 (리뷰, 작성자, 가게, 점주)
+     * @param reviewIds
+     * @return List<Review>
+     */
+    private List<Review> getReviewsInOrder(List<Long> reviewIds) {
+        return inOrder(reviewIds, reviewRepository.findAllByIdIn(reviewIds), Review::getId);
+    }
+
+    /**
+     * ID 목록 순서대로 리뷰 요약 조회
+     * @param reviewIds
+     * @return List<ReviewSummary>
+     */
+    private List<ReviewSummary> getReviewSummariesInOrder(List<Long> reviewIds) {
+        return inOrder(reviewIds, reviewRepository.findSummariesByIdIn(reviewIds), ReviewSummary::getReviewId);
+    }
+
+    private static <T> List<T> inOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> rowMap = rows.stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+
+        return ids.stream()
+                .map(rowMap::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
@@ -108,11 +363,49 @@ public class ReviewService {
                 .orElseThrow(() -> new ReviewException(ErrorCode.REVIEW_NOT_FOUND));
     }
 
+    /**
+     * 특정 리뷰 정보 조회 (작성자, 가게 정보 포함 응답은 트랜잭션 안에서 생성)
+     * @param reviewId
+     * @return ReviewDto.Response
+     */
+    public ReviewDto.Response getReviewDetails(Long reviewId) {
+        return ReviewDto.Response.fromEntity(getReviewById(reviewId));
+    }
+
+    /**
+     * 특정 리뷰 응답의 마지막 수정 시각 (리뷰가 없으면 null)
+     * @param reviewId
+     * @return LocalDateTime
+     */
+    public LocalDateTime getReviewLastModified(Long reviewId) {
+        return reviewRepository.findLastModifiedById(reviewId).orElse(null);
+    }
+
+    /**
+     * 특정 가게 리뷰 목록의 마지막 수정 시각, 리뷰 수
+     * @param storeId
+     * @return ResourceVersion
+     */
+    public ResourceVersion getReviewsVersionByStoreId(Long storeId) {
+        return reviewRepository.findVersionByStoreId(storeId);
+    }
+
+    /**
+     * 특정 유저 리뷰 목록의 마지막 수정 시각, 리뷰 수
+     * @param memberId
+     * @return ResourceVersion
+     */
+    public ResourceVersion getReviewsVersionByMemberId(Long memberId) {
+        return reviewRepository.findVersionByMemberId(memberId);
+    }
+
     /**
      * 특정 리뷰 정보 수정
+     * 평점이 바뀌면 가게 평점 합계에 차이만 반영
      * @param updateRequest
      * @return ReviewDto.Response
      */
+    @Transactional
     public ReviewDto.Response updateReview(Long reviewId, UpdateReviewDto updateRequest) {
         Review review = getReviewById(reviewId);
 
@@ -124,36 +417,33 @@ public class ReviewService {
             review.setContent(updateRequest.getContent());
         }
 
+        double ratingDelta = 0;
         if (updateRequest.getRating() != null) {
+            ratingDelta = updateRequest.getRating() - review.getRating();
             review.setRating(updateRequest.getRating());
-            storeService.updateStoreRating(
-                    review.getStore().getId(),
-                    getRatingAverage(review.getStore().getId())
-            );
         }
 
-        return ReviewDto.Response.fromEntity(
-                reviewRepository.save(review)
-        );
+        reviewRepository.flush();
+        ReviewDto.Response response = ReviewDto.Response.fromEntity(review);
+
+        if (ratingDelta != 0) {
+            storeService.addStoreRating(review.getStore().getId(), ratingDelta, 0);
+        }
+
+        return response;
     }
 
     /**
      * 특정 리뷰 삭제
+     * 가게 평점 합계, 리뷰 개수에서 제외
      * @param reviewId
      */
+    @Transactional
     public void deleteReview(Long reviewId) {
-        reviewRepository.deleteById(reviewId);
-    }
+        Review review = getReviewById(reviewId);
 
-    /**
-     * 특정 가게에 대한 리뷰 평균값 조회
-     * @param storeId
-     * @return
-     */
-    public Double getRatingAverage(Long storeId) {
-        Store store = storeService.getStoreById(storeId);
-        Double avgRatingByStore = reviewRepository.avgRatingByStore(store);
-        return avgRatingByStore != null ? avgRatingByStore : 0.0;
+        reviewRepository.delete(review);
+        storeService.addStoreRating(review.getStore().getId(), -review.getRating(), -1);
     }
 
 }
@@ -0,0 +1,472 @@
+package com.reservation.service;
+
+import com.reservation.domain.Store;
+import com.reservation.repository.StoreRepository;
+import com.reservation.repository.projection.StoreLocation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가게 위치 격자(grid cell) 인덱스
+ * 위도/경도를 일정 크기의 셀로 나누어 가게 ID 를 보관하고,
+ * 사용자 위치 주변 셀부터 바깥쪽으로 탐색해 가까운 가게를 찾음
+ */
+@Slf4j
+@Component
+public class StoreGeoIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371; // 지구 반지름 (킬로미터)
+    public static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    /**
+     * 거리순, 거리가 같으면 ID 순
+     */
+    public static final Comparator<Neighbor> NEAREST_ORDER =
+            Comparator.comparingDouble(Neighbor::distanceKm).thenComparing(Neighbor::storeId);
+
+    private final StoreRepository storeRepository;
+    private final double cellSizeDegrees;
+
+    private final Map<Long, Location> locations = new HashMap<>();
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int minRow = Integer.MAX_VALUE;
+    private int maxRow = Integer.MIN_VALUE;
+    private int minCol = Integer.MAX_VALUE;
+    private int maxCol = Integer.MIN_VALUE;
+
+    public StoreGeoIndex(
+            StoreRepository storeRepository,
+            @Value("${spring.store.geo-index.cell-size-degrees:0.01}") double cellSizeDegrees
+    ) {
+        this.storeRepository = storeRepository;
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    /**
+     * 애플리케이션 시작 시 저장된 가게 위치로 인덱스 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<StoreLocation> storeLocations = storeRepository.findAllLocations();
+
+        for (StoreLocation storeLocation : storeLocations) {
+            put(storeLocation.getStoreId(), storeLocation.getLatitude(), storeLocation.getLongitude());
+        }
+
+        log.info("store geo index loaded. size = {}", size());
+    }
+
+    /**
+     * 가게 위치 등록 (이미 있다면 위치 갱신)
+     * @param store
+     */
+    public void put(Store store) {
+        put(store.getId(), store.getLatitude(), store.getLongitude());
+    }
+
+    /**
+     * 가게 위치 등록 (이미 있다면 위치 갱신, 좌표가 아직 없다면 인덱스에서 제외)
+     * @param storeId
+     * @param latitude
+     * @param longitude
+     */
+    public void put(Long storeId, Double latitude, Double longitude) {
+        if (storeId == null) {
+            return;
+        }
+
+        if (latitude == null || longitude == null) {
+            remove(storeId);
+            return;
+        }
+
+        Location location = new Location(latitude, longitude, row(latitude), col(longitude));
+
+        lock.writeLock().lock();
+        try {
+            removeFromCell(storeId, locations.put(storeId, location));
+            cells.computeIfAbsent(cellKey(location.row(), location.col()), key -> new HashSet<>())
+                    .add(storeId);
+
+            minRow = Math.min(minRow, location.row());
+            maxRow = Math.max(maxRow, location.row());
+            minCol = Math.min(minCol, location.col());
+            maxCol = Math.max(maxCol, location.col());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가게 위치 삭제
+     * @param storeId
+     */
+    public void remove(Long storeId) {
+        lock.writeLock().lock();
+        try {
+            removeFromCell(storeId, locations.remove(storeId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스에 등록된 가게 수
+     * @return int
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return locations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 위치에서 가까운 가게 k 개 조회 (가까운 순)
+     * @param latitude
+     * @param longitude
+     * @param k
+     * @return List<Neighbor>
+     */
+    public List<Neighbor> findNearest(double latitude, double longitude, int k) {
+        return findNearest(latitude, longitude, k, null, null);
+    }
+
+    /**
+     * 사용자 위치에서 반경(킬로미터) 안에 있는 가게 조회 (가까운 순)
+     * @param latitude
+     * @param longitude
+     * @param radiusKm
+     * @return List<Neighbor>
+     */
+    public List<Neighbor> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        return findNearest(latitude, longitude, Integer.MAX_VALUE, radiusKm, null);
+    }
+
+    /**
+     * 사용자 위치에서 반경(킬로미터) 안에 있는 가게 중 가까운 k 개 조회 (가까운 순)
+     * @param latitude
+     * @param longitude
+     * @param radiusKm
+     * @param k
+     * @return List<Neighbor>
+     */
+    public List<Neighbor> findWithinRadius(double latitude, double longitude, double radiusKm, int k) {
+        return findNearest(latitude, longitude, k, radiusKm, null);
+    }
+
+    /**
+     * 사용자 위치가 속한 셀에서 시작해 바깥 고리(ring) 방향으로 셀을 탐색
+     * 가게가 있는 범위(minRow ~ maxRow, minCol ~ maxCol) 밖의 셀은 보지 않고, 범위에 닿는 고리부터 탐색
+     * 아직 보지 않은 셀까지의 최소 거리가 현재 k 번째 거리(또는 반경)보다 멀어지면 탐색 종료
+     * 탐색할 셀 수가 가게 수보다 많아지면 (멀리 떨어진 위치, 극지방 등) 남은 가게를 직접 비교
+     * after 가 있으면 (거리, ID) 순서로 after 다음 가게부터 조회하고,
+     * after 의 거리까지 닿지 않는 안쪽 고리는 건너뜀
+     * @param latitude
+     * @param longitude
+     * @param limit
+     * @param maxDistanceKm
+     * @param after
+     * @return List<Neighbor>
+     */
+    public List<Neighbor> findNearest(
+            double latitude, double longitude, int limit, Double maxDistanceKm, Neighbor after
+    ) {
+        lock.readLock().lock();
+        try {
+            if (limit <= 0 || locations.isEmpty()) {
+                return List.of();
+            }
+
+            if (limit >= locations.size() && maxDistanceKm == null) {
+                return sortAll(latitude, longitude, after);
+            }
+
+            NearestCollector collector = new NearestCollector(limit);
+
+            int centerRow = row(latitude);
+            int centerCol = col(longitude);
+            int firstRing = Math.max(0, Math.max(
+                    Math.max(minRow - centerRow, centerRow - maxRow),
+                    Math.max(minCol - centerCol, centerCol - maxCol)
+            ));
+            int lastRing = Math.max(
+                    Math.max(Math.abs(centerRow - minRow), Math.abs(centerRow - maxRow)),
+                    Math.max(Math.abs(centerCol - minCol), Math.abs(centerCol - maxCol))
+            );
+            int farthestCol = Math.max(Math.abs(centerCol - minCol), Math.abs(centerCol - maxCol));
+            long remainingCells = locations.size();
+
+            for (int ring = firstRing; ring <= lastRing; ring++) {
+                if (after == null || ringReachKm(ring) >= after.distanceKm()) {
+                    remainingCells -= ringCellCount(centerRow, centerCol, ring);
+
+                    if (remainingCells < 0) {
+                        offerOutsideRing(collector, latitude, longitude, centerRow, centerCol, ring - 1,
+                                maxDistanceKm, after);
+                        break;
+                    }
+
+                    for (Long storeId : storeIdsInRing(centerRow, centerCol, ring)) {
+                        Location location = locations.get(storeId);
+                        offer(collector, latitude, longitude, storeId, location, maxDistanceKm, after);
+                    }
+                }
+
+                double clearanceKm = ringClearanceKm(latitude, ring, farthestCol);
+
+                if (maxDistanceKm != null && clearanceKm > maxDistanceKm) {
+                    break;
+                }
+                if (collector.isFullWithin(clearanceKm)) {
+                    break;
+                }
+            }
+
+            return collector.toSortedList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 안에 있고 after 보다 뒤에 있는 가게만 후보로 추가
+     */
+    private static void offer(
+            NearestCollector collector, double latitude, double longitude,
+            Long storeId, Location location, Double maxDistanceKm, Neighbor after
+    ) {
+        double distance = distanceKm(latitude, longitude, location.latitude(), location.longitude());
+
+        if ((maxDistanceKm == null || distance <= maxDistanceKm) && isAfter(storeId, distance, after)) {
+            collector.offer(storeId, distance);
+        }
+    }
+
+    /**
+     * 중심 셀에서 ring 보다 멀리 있는 (아직 탐색하지 않은) 가게를 셀 탐색 없이 모두 비교
+     * @param collector
+     * @param latitude
+     * @param longitude
+     * @param centerRow
+     * @param centerCol
+     * @param ring
+     * @param maxDistanceKm
+     * @param after
+     */
+    private void offerOutsideRing(
+            NearestCollector collector, double latitude, double longitude,
+            int centerRow, int centerCol, int ring, Double maxDistanceKm, Neighbor after
+    ) {
+        locations.forEach((storeId, location) -> {
+            int locationRing = Math.max(
+                    Math.abs(location.row() - centerRow), Math.abs(location.col() - centerCol)
+            );
+
+            if (locationRing > ring) {
+                offer(collector, latitude, longitude, storeId, location, maxDistanceKm, after);
+            }
+        });
+    }
+
+    /**
+     * 전체 가게를 조회하는 경우 셀 탐색 없이 거리순 정렬
+     * @param latitude
+     * @param longitude
+     * @param after
+     * @return List<Neighbor>
+     */
+    private List<Neighbor> sortAll(double latitude, double longitude, Neighbor after) {
+        List<Neighbor> neighbors = new ArrayList<>(locations.size());
+
+        locations.forEach((storeId, location) -> {
+            double distance = distanceKm(
+                    latitude, longitude, location.latitude(), location.longitude()
+            );
+
+            if (isAfter(storeId, distance, after)) {
+                neighbors.add(new Neighbor(storeId, distance));
+            }
+        });
+
+        neighbors.sort(NEAREST_ORDER);
+        return neighbors;
+    }
+
+    /**
+     * (거리, ID) 순서에서 after 보다 뒤에 있는지 확인
+     * @param storeId
+     * @param distanceKm
+     * @param after
+     * @return boolean
+     */
+    static boolean isAfter(Long storeId, double distanceKm, Neighbor after) {
+        if (after == null) {
+            return true;
+        }
+
+        int compare = Double.compare(distanceKm, after.distanceKm());
+        return compare > 0 || (compare == 0 && storeId > after.storeId());
+    }
+
+    /**
+     * 중심 셀에서 ring 만큼 떨어진 셀 중 가게가 있는 범위 안의 셀들에 속한 가게 ID 목록
+     * @param centerRow
+     * @param centerCol
+     * @param ring
+     * @return List<Long>
+     */
+    private List<Long> storeIdsInRing(int centerRow, int centerCol, int ring) {
+        List<Long> storeIds = new ArrayList<>();
+
+        int fromRow = Math.max(-ring, minRow - centerRow);
+        int toRow = Math.min(ring, maxRow - centerRow);
+        int fromCol = Math.max(-ring, minCol - centerCol);
+        int toCol = Math.min(ring, maxCol - centerCol);
+
+        for (int dRow = fromRow; dRow <= toRow; dRow++) {
+            if (Math.abs(dRow) == ring) {
+                for (int dCol = fromCol; dCol <= toCol; dCol++) {
+                    addCell(storeIds, centerRow + dRow, centerCol + dCol);
+                }
+                continue;
+            }
+
+            if (fromCol == -ring) {
+                addCell(storeIds, centerRow + dRow, centerCol - ring);
+            }
+            if (toCol == ring && ring > 0) {
+                addCell(storeIds, centerRow + dRow, centerCol + ring);
+            }
+        }
+
+        return storeIds;
+    }
+
+    private void addCell(List<Long> storeIds, int row, int col) {
+        Set<Long> cell = cells.get(cellKey(row, col));
+        if (cell != null) {
+            storeIds.addAll(cell);
+        }
+    }
+
+    /**
+     * storeIdsInRing 이 확인하는 셀 수 (가게가 있는 범위 안의 셀만)
+     * @param centerRow
+     * @param centerCol
+     * @param ring
+     * @return long
+     */
+    private long ringCellCount(int centerRow, int centerCol, int ring) {
+        long fromRow = Math.max(-ring, minRow - centerRow);
+        long toRow = Math.min(ring, maxRow - centerRow);
+        long fromCol = Math.max(-ring, minCol - centerCol);
+        long toCol = Math.min(ring, maxCol - centerCol);
+
+        if (fromRow > toRow || fromCol > toCol) {
+            return 0;
+        }
+
+        long edgeRows = (fromRow == -ring ? 1 : 0) + (toRow == ring && ring > 0 ? 1 : 0);
+        long innerRows = Math.max(0, Math.min(toRow, ring - 1) - Math.max(fromRow, -ring + 1) + 1);
+        long innerCols = (fromCol == -ring ? 1 : 0) + (toCol == ring && ring > 0 ? 1 : 0);
+
+        return edgeRows * (toCol - fromCol + 1) + innerRows * innerCols;
+    }
+
+    /**
+     * ring 까지 탐색했을 때 아직 보지 않은 셀까지의 최소 거리 (킬로미터)
+     * 위도 방향: ring 칸 이상 떨어진 행까지의 거리
+     * 경도 방향: ring 칸 이상 떨어진 자오선까지의 거리 (자오선 위 어느 위도든 이보다 가깝지 않음)
+     *   경도 차이는 날짜변경선을 넘는 쪽(360 - 가장 먼 열까지의 차이)도 고려
+     * @param latitude
+     * @param ring
+     * @param farthestCol
+     * @return double
+     */
+    private double ringClearanceKm(double latitude, int ring, int farthestCol) {
+        double latClearanceKm = ring * cellSizeDegrees * KM_PER_DEGREE;
+
+        double lngGapDegrees = Math.min(ring * cellSizeDegrees, Math.max(0, 360 - (farthestCol + 1) * cellSizeDegrees));
+        double sinLngGap = Math.sin(Math.toRadians(Math.min(90, lngGapDegrees)));
+        double lngClearanceKm = EARTH_RADIUS_KM * Math.asin(Math.cos(Math.toRadians(latitude)) * sinLngGap);
+
+        return Math.min(latClearanceKm, lngClearanceKm);
+    }
+
+    /**
+     * ring 에 있는 셀 안의 가게까지의 최대 거리 (킬로미터)
+     * 자오선을 따라 위도 차이만큼, 다시 위도선을 따라 경도 차이만큼 가는 거리보다 길지 않음
+     * @param ring
+     * @return double
+     */
+    private double ringReachKm(int ring) {
+        return 2 * (ring + 1) * cellSizeDegrees * KM_PER_DEGREE;
+    }
+
+    private void removeFromCell(Long storeId, Location location) {
+        if (location == null) {
+            return;
+        }
+
+        long key = cellKey(location.row(), location.col());
+        Set<Long> cell = cells.get(key);
+
+        if (cell != null) {
+            cell.remove(storeId);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor(latitude / cellSizeDegrees);
+    }
+
+    private int col(double longitude) {
+        return (int) Math.floor(longitude / cellSizeDegrees);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    /**
+     * 두 지점 사이의 거리 측정 (하버사인 공식)
+     * @param lat1
+     * @param lng1
+     * @param lat2
+     * @param lng2
+     * @return double
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lngDistance = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return EARTH_RADIUS_KM * c; // 계산된 거리 반환 (킬로미터)
+    }
+
+    private record Location(double latitude, double longitude, int row, int col) {
+    }
+
+    public record Neighbor(Long storeId, double distanceKm) {
+    }
+}
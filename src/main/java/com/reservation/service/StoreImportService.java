@@ -0,0 +1,577 @@
+package com.reservation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservation.domain.Member;
+import com.reservation.domain.Store;
+import com.reservation.dto.store.StoreDto;
+import com.reservation.dto.store.StoreImportDto;
+import com.reservation.exception.KakaoException;
+import com.reservation.exception.StoreException;
+import com.reservation.repository.StoreRepository;
+import com.reservation.type.ErrorCode;
+import com.reservation.type.StoreImportFormat;
+import com.reservation.type.StoreImportJobStatus;
+import com.reservation.type.StoreImportStatus;
+import com.reservation.util.CsvUtils;
+import com.reservation.util.RateLimiter;
+import com.reservation.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 가게 목록 일괄 등록 (CSV, NDJSON)
+ * 요청 본문은 임시 파일에 받아 두고 전용 스레드에서 등록 (요청은 작업 ID 를 바로 응답, 결과는 작업 조회로 확인)
+ * 파일을 한 줄씩 읽어 chunk-size 행씩 처리 (파일 크기와 관계없이 한 번에 chunk 만큼만 메모리에 둠)
+ * chunk 마다 중복 확인 쿼리 한 번 -> 좌표 조회 (동시 호출 수, 초당 호출 수 제한) -> 배치 INSERT 한 트랜잭션
+ * 트랜잭션은 배치 INSERT 에만 걸리므로 좌표 조회 제한을 기다리는 동안에는 DB 커넥션을 잡지 않음
+ * 작업 상태는 인스턴스 메모리에만 두므로 작업을 받은 인스턴스에서만 조회 가능하고 재시작하면 사라짐
+ */
+@Slf4j
+@Service
+public class StoreImportService {
+
+    private static final String STORE_NAME = "storeName";
+    private static final String STORE_ADDRESS = "storeAddress";
+    private static final String DESCRIPTION = "description";
+    private static final String CAPACITY_PERSON = "capacityPerson";
+
+    private final MemberService memberService;
+    private final KakaoMapService kakaoMapService;
+    private final StoreRepository storeRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreLocationService storeLocationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final long maxBytes;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, StoreImportDto.Job> jobs;
+
+    // 여러 요청이 동시에 일괄 등록해도 카카오 API 호출 수는 함께 제한
+    private final Semaphore geocodePermits;
+    private final RateLimiter geocodeRateLimiter;
+
+    public StoreImportService(
+            MemberService memberService,
+            KakaoMapService kakaoMapService,
+            StoreRepository storeRepository,
+            StoreGeoIndex storeGeoIndex,
+            StoreLocationService storeLocationService,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            Validator validator,
+            MeterRegistry meterRegistry,
+            @Value("${spring.store.import.chunk-size:500}") int chunkSize,
+            @Value("${spring.store.import.max-size:10MB}") DataSize maxSize,
+            @Value("${spring.store.import.geocode-concurrency:4}") int geocodeConcurrency,
+            @Value("${spring.store.import.geocode-rate-per-second:10}") double geocodeRatePerSecond,
+            @Value("${spring.store.import.threads:1}") int threads,
+            @Value("${spring.store.import.queue-capacity:8}") int queueCapacity,
+            @Value("${spring.store.import.job-retention:PT1H}") Duration jobRetention,
+            @Value("${spring.store.import.job-maximum-size:1000}") long jobMaximumSize
+    ) {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.memberService = memberService;
+        this.kakaoMapService = kakaoMapService;
+        this.storeRepository = storeRepository;
+        this.storeGeoIndex = storeGeoIndex;
+        this.storeLocationService = storeLocationService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxBytes = maxSize.toBytes();
+        this.geocodePermits = new Semaphore(geocodeConcurrency);
+        this.geocodeRateLimiter = new RateLimiter(geocodeRatePerSecond);
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "store-import-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(jobMaximumSize)
+                .expireAfterWrite(jobRetention)
+                .build();
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "store-import", List.of());
+    }
+
+    /**
+     * 가게 목록 일괄 등록 작업 접수
+     * 본문을 임시 파일에 받아 둔 뒤 전용 스레드에서 등록하고, 작업(QUEUED)을 바로 응답
+     * 대기열이 가득 차면 본문을 받기 전에 StoreException, 본문이 max-size 를 넘어도 StoreException
+     * @param memberId
+     * @param format
+     * @param inputStream
+     * @return StoreImportDto.Job
+     */
+    public StoreImportDto.Job submitImport(Long memberId, StoreImportFormat format, InputStream inputStream) {
+        Member member = memberService.getMemberById(memberId);
+
+        // 어차피 거절될 요청의 본문을 디스크에 받지 않도록 먼저 확인 (동시에 접수되면 아래 execute 에서 거절)
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw new StoreException(ErrorCode.STORE_IMPORT_BUSY);
+        }
+        Path file = spool(inputStream, maxBytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        StoreImportDto.Job job = StoreImportDto.Job.builder()
+                .jobId(UUID.randomUUID().toString())
+                .memberId(memberId)
+                .status(StoreImportJobStatus.QUEUED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        jobs.put(job.getJobId(), job);
+
+        try {
+            executor.execute(() -> runImport(job, member, format, file));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getJobId());
+            deleteQuietly(file);
+            throw new StoreException(ErrorCode.STORE_IMPORT_BUSY);
+        }
+
+        return job;
+    }
+
+    /**
+     * 일괄 등록 작업 조회 (진행 상태, 완료되면 행별 결과)
+     * 보관 시간(job-retention)이 지난 작업, 다른 회원이 접수한 작업은 StoreException
+     * @param jobId
+     * @param memberId
+     * @return StoreImportDto.Job
+     */
+    public StoreImportDto.Job getImportJob(String jobId, Long memberId) {
+        StoreImportDto.Job job = jobs.getIfPresent(jobId);
+        if (job == null || !job.getMemberId().equals(memberId)) {
+            throw new StoreException(ErrorCode.STORE_IMPORT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 임시 파일의 가게 목록을 등록하고 작업 상태 갱신 (끝나면 임시 파일 삭제)
+     * 조회 중인 요청과 겹치지 않도록 상태가 바뀔 때마다 새 작업 객체로 교체
+     * @param job
+     * @param member
+     * @param format
+     * @param file
+     */
+    private void runImport(StoreImportDto.Job job, Member member, StoreImportFormat format, Path file) {
+        updateJob(job, StoreImportJobStatus.RUNNING, 0, null, null);
+
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            StoreImportDto.Response response = importStores(member, format, inputStream,
+                    processed -> updateJob(job, StoreImportJobStatus.RUNNING, processed, null, null));
+            updateJob(job, StoreImportJobStatus.COMPLETED, response.getTotal(), response, null);
+        } catch (StoreException e) {
+            updateJob(job, StoreImportJobStatus.FAILED, 0, null, e.getErrorMessage());
+        } catch (IOException | RuntimeException e) {
+            log.error("store import failed. jobId = {}, memberId = {}", job.getJobId(), member.getId(), e);
+            updateJob(job, StoreImportJobStatus.FAILED, 0, null, ErrorCode.INTERNAL_SERVER_ERROR.getDescription());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void updateJob(StoreImportDto.Job job, StoreImportJobStatus status, int processed,
+                           StoreImportDto.Response result, String message) {
+        jobs.put(job.getJobId(), StoreImportDto.Job.builder()
+                .jobId(job.getJobId())
+                .memberId(job.getMemberId())
+                .status(status)
+                .processed(processed)
+                .result(result)
+                .message(message)
+                .createdAt(job.getCreatedAt())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 요청 본문을 임시 파일로 복사 (요청이 끝나면 본문을 읽을 수 없으므로)
+     * maxBytes 를 넘으면 나머지는 읽지 않고 임시 파일을 지운 뒤 StoreException
+     * @param inputStream
+     * @param maxBytes
+     * @return Path
+     */
+    private static Path spool(InputStream inputStream, long maxBytes) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("store-import-", ".tmp");
+
+            try (OutputStream outputStream = Files.newOutputStream(file)) {
+                byte[] buffer = new byte[8192];
+                long copied = 0;
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    copied += read;
+                    if (copied > maxBytes) {
+                        throw new StoreException(ErrorCode.INVALID_IMPORT_FILE);
+                    }
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            if (file != null) {
+                deleteQuietly(file);
+            }
+            throw new UncheckedIOException(e);
+        } catch (StoreException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("store import file not deleted. file = {}", file, e);
+        }
+    }
+
+    /**
+     * 가게 목록 일괄 등록 (호출한 스레드에서 끝날 때까지 처리)
+     * 형식이 잘못된 행, 중복된 행은 건너뛰고 나머지 행은 등록 (행별 결과 응답)
+     * @param memberId
+     * @param format
+     * @param inputStream
+     * @return StoreImportDto.Response
+     */
+    public StoreImportDto.Response importStores(Long memberId, StoreImportFormat format, InputStream inputStream) {
+        return importStores(memberService.getMemberById(memberId), format, inputStream, processed -> { });
+    }
+
+    /**
+     * 가게 목록 일괄 등록 (chunk 를 처리할 때마다 지금까지 읽은 행 수 전달)
+     * @param member
+     * @param format
+     * @param inputStream
+     * @param progress
+     * @return StoreImportDto.Response
+     */
+    private StoreImportDto.Response importStores(
+            Member member, StoreImportFormat format, InputStream inputStream, IntConsumer progress
+    ) {
+        Long memberId = member.getId();
+        List<StoreImportDto.Result> results = new ArrayList<>();
+        Set<String> importedStoreNames = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            Function<String, StoreDto.Request> parser = this::parseNdjson;
+
+            if (format == StoreImportFormat.CSV) {
+                parser = csvParser(reader.readLine());
+                lineNumber++;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    chunk.add(new ImportRow(lineNumber, parseRow(line, parser, memberId)));
+                } catch (IllegalArgumentException e) {
+                    results.add(StoreImportDto.Result.of(lineNumber, null, StoreImportStatus.INVALID, e.getMessage()));
+                }
+
+                if (chunk.size() == chunkSize) {
+                    results.addAll(importChunk(member, chunk, importedStoreNames));
+                    chunk.clear();
+                    progress.accept(results.size());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!chunk.isEmpty()) {
+            results.addAll(importChunk(member, chunk, importedStoreNames));
+        }
+
+        results.sort(Comparator.comparingInt(StoreImportDto.Result::getLine));
+        return StoreImportDto.Response.fromResults(results);
+    }
+
+    /**
+     * 한 행을 가게 등록 요청으로 변환하고 검증 (점주는 요청 파라미터의 회원으로 고정)
+     * @param line
+     * @param parser
+     * @param memberId
+     * @return StoreDto.Request
+     */
+    private StoreDto.Request parseRow(String line, Function<String, StoreDto.Request> parser, Long memberId) {
+        StoreDto.Request request = parser.apply(line);
+        request.setMemberId(memberId);
+
+        Set<ConstraintViolation<StoreDto.Request>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+
+        return request;
+    }
+
+    private StoreDto.Request parseNdjson(String line) {
+        try {
+            return objectMapper.readValue(line, StoreDto.Request.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * CSV 헤더로 컬럼 위치를 찾고 행 변환 함수 생성
+     * description 외의 컬럼이 없으면 StoreException
+     * @param header
+     * @return Function<String, StoreDto.Request>
+     */
+    private Function<String, StoreDto.Request> csvParser(String header) {
+        if (header == null) {
+            throw new StoreException(ErrorCode.INVALID_IMPORT_FILE);
+        }
+
+        List<String> columns = CsvUtils.parseLine(header.replace("\uFEFF", "")).stream()
+                .map(String::trim)
+                .toList();
+
+        int storeName = columns.indexOf(STORE_NAME);
+        int storeAddress = columns.indexOf(STORE_ADDRESS);
+        int description = columns.indexOf(DESCRIPTION);
+        int capacityPerson = columns.indexOf(CAPACITY_PERSON);
+
+        if (storeName < 0 || storeAddress < 0 || capacityPerson < 0) {
+            throw new StoreException(ErrorCode.INVALID_IMPORT_FILE);
+        }
+
+        return line -> {
+            List<String> values = CsvUtils.parseLine(line);
+
+            return StoreDto.Request.builder()
+                    .storeName(valueAt(values, storeName))
+                    .storeAddress(valueAt(values, storeAddress))
+                    .description(valueAt(values, description))
+                    .capacityPerson(parseCapacityPerson(valueAt(values, capacityPerson)))
+                    .build();
+        };
+    }
+
+    private static String valueAt(List<String> values, int index) {
+        if (index < 0 || index >= values.size() || values.get(index).isBlank()) {
+            return null;
+        }
+        return values.get(index).trim();
+    }
+
+    private static Integer parseCapacityPerson(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(CAPACITY_PERSON + " 은 숫자여야 합니다.");
+        }
+    }
+
+    /**
+     * chunk 하나 등록
+     * 이미 등록된 가게, 파일 안에서 앞서 나온 가게와 이름이 같으면 중복으로 건너뜀
+     * 좌표 조회에 실패한 가게도 좌표 없이 등록 (일시적인 실패는 PENDING 으로 두어 StoreLocationService 가 다시 조회)
+     * @param member
+     * @param rows
+     * @param importedStoreNames
+     * @return List<StoreImportDto.Result>
+     */
+    private List<StoreImportDto.Result> importChunk(Member member, List<ImportRow> rows, Set<String> importedStoreNames) {
+        Set<String> existingStoreNames = new HashSet<>(storeRepository.findStoreNamesByMemberAndStoreNameIn(
+                member, rows.stream().map(row -> row.request().getStoreName()).collect(Collectors.toSet())
+        ));
+
+        List<StoreImportDto.Result> results = new ArrayList<>(rows.size());
+        List<ImportRow> newRows = new ArrayList<>(rows.size());
+
+        for (ImportRow row : rows) {
+            String storeName = row.request().getStoreName();
+
+            if (existingStoreNames.contains(storeName) || !importedStoreNames.add(storeName)) {
+                results.add(StoreImportDto.Result.of(row.line(), storeName, StoreImportStatus.DUPLICATE,
+                        ErrorCode.STORE_ALREADY_EXISTS.getDescription()));
+            } else {
+                newRows.add(row);
+            }
+        }
+
+        List<CompletableFuture<double[]>> locations = geocode(newRows);
+        List<Store> stores = new ArrayList<>(newRows.size());
+        List<String> geocodeFailures = new ArrayList<>(newRows.size());
+
+        for (int i = 0; i < newRows.size(); i++) {
+            StoreDto.Request request = newRows.get(i).request();
+            double[] location = null;
+            CompletionException failure = null;
+            String geocodeFailure = null;
+
+            try {
+                location = locations.get(i).join();
+            } catch (CompletionException e) {
+                failure = e;
+                geocodeFailure = e.getCause() instanceof KakaoException kakaoException
+                        ? kakaoException.getErrorMessage()
+                        : ErrorCode.GEOCODING_UNAVAILABLE.getDescription();
+            }
+
+            Store store = Store.builder()
+                    .storeName(request.getStoreName())
+                    .storeAddress(request.getStoreAddress())
+                    .description(request.getDescription())
+                    .member(member)
+                    .rating(0.0)
+                    .capacityPerson(request.getCapacityPerson())
+                    .build();
+            storeLocationService.applyResult(store, location, failure);
+
+            stores.add(store);
+            geocodeFailures.add(geocodeFailure);
+        }
+
+        try {
+            saveStores(stores);
+        } catch (DataAccessException e) {
+            log.warn("store import chunk not saved. memberId = {}, rows = {}", member.getId(), stores.size(), e);
+
+            for (ImportRow row : newRows) {
+                results.add(StoreImportDto.Result.of(row.line(), row.request().getStoreName(),
+                        StoreImportStatus.FAILED, ErrorCode.INTERNAL_SERVER_ERROR.getDescription()));
+            }
+            return results;
+        }
+
+        for (int i = 0; i < newRows.size(); i++) {
+            Store store = stores.get(i);
+
+            results.add(StoreImportDto.Result.builder()
+                    .line(newRows.get(i).line())
+                    .storeName(store.getStoreName())
+                    .status(StoreImportStatus.CREATED)
+                    .shopId(store.getId())
+                    .located(store.getLatitude() != null)
+                    .geocodeStatus(store.getGeocodeStatus())
+                    .message(geocodeFailures.get(i))
+                    .build());
+        }
+
+        return results;
+    }
+
+    /**
+     * 주소 좌표 조회
+     * 동시 호출 수와 초당 호출 수를 넘지 않도록 자리가 날 때까지 기다렸다가 호출
+     * (카카오 API 의 동시 호출 제한은 대기 없이 실패하므로, 일괄 등록이 일반 가게 등록의 자리를 모두 차지하지 않도록 더 작게)
+     * @param rows
+     * @return List<CompletableFuture<double[]>> (행 순서)
+     */
+    private List<CompletableFuture<double[]>> geocode(List<ImportRow> rows) {
+        List<CompletableFuture<double[]>> locations = new ArrayList<>(rows.size());
+
+        for (ImportRow row : rows) {
+            geocodePermits.acquireUninterruptibly();
+            geocodeRateLimiter.acquire();
+
+            CompletableFuture<double[]> location;
+            try {
+                location = kakaoMapService.getDistanceFromAddressAsync(row.request().getStoreAddress());
+            } catch (RuntimeException e) {
+                location = CompletableFuture.failedFuture(e);
+            }
+
+            location.whenComplete((result, e) -> geocodePermits.release());
+            locations.add(location);
+        }
+
+        return locations;
+    }
+
+    /**
+     * 가게 배치 INSERT (ID 는 풀링 시퀀스로 미리 할당) 후 커밋되면 위치 인덱스에 반영
+     * @param stores
+     */
+    private void saveStores(List<Store> stores) {
+        if (stores.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            storeRepository.saveAll(stores);
+            TransactionUtils.runAfterCommit(() -> stores.forEach(storeGeoIndex::put));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private record ImportRow(int line, StoreDto.Request request) {
+    }
+}
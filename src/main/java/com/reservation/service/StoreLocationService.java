@@ -0,0 +1,184 @@
+package com.reservation.service;
+
+import com.reservation.domain.Store;
+import com.reservation.exception.KakaoException;
+import com.reservation.repository.StoreRepository;
+import com.reservation.repository.projection.PendingGeocode;
+import com.reservation.type.ErrorCode;
+import com.reservation.type.GeocodeStatus;
+import com.reservation.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 가게 주소 좌표 조회, 반영
+ * 가게는 좌표 없이(PENDING) 먼저 저장하고, 커밋 후 비동기로 조회한 결과를 반영
+ * 일시적인 실패(동시 호출 제한, 타임아웃, 카카오 API 오류)는 PENDING 으로 남겨 주기적으로 다시 조회
+ */
+@Slf4j
+@Service
+public class StoreLocationService {
+
+    private final KakaoMapService kakaoMapService;
+    private final StoreRepository storeRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor applicationTaskExecutor;
+
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final int batchSize;
+
+    // 진행 중인 재조회 (끝나기 전에는 다음 재조회를 시작하지 않음)
+    private final AtomicReference<CompletableFuture<Void>> retrying =
+            new AtomicReference<>(CompletableFuture.completedFuture(null));
+
+    public StoreLocationService(
+            KakaoMapService kakaoMapService,
+            StoreRepository storeRepository,
+            StoreGeoIndex storeGeoIndex,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("applicationTaskExecutor") Executor applicationTaskExecutor,
+            @Value("${spring.store.geocode-retry.max-attempts:5}") int maxAttempts,
+            @Value("${spring.store.geocode-retry.delay:PT5M}") Duration retryDelay,
+            @Value("${spring.store.geocode-retry.batch-size:100}") int batchSize
+    ) {
+        this.kakaoMapService = kakaoMapService;
+        this.storeRepository = storeRepository;
+        this.storeGeoIndex = storeGeoIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 가게 주소 좌표 비동기 조회 요청
+     * 트랜잭션 안에서 호출되면 커밋 후에 조회 시작
+     * @param storeId
+     * @param storeAddress
+     */
+    public void requestLocation(Long storeId, String storeAddress) {
+        TransactionUtils.runAfterCommit(() -> locate(storeId, storeAddress));
+    }
+
+    /**
+     * 좌표를 다시 조회할 가게를 batch-size 개씩 순서대로 조회
+     * 카카오 API 동시 호출 제한을 넘지 않도록 앞 가게의 결과를 반영한 뒤 다음 가게를 조회
+     * 스케줄러 스레드는 대상만 조회하고 바로 돌아옴 (다른 스케줄 작업이 조회 시간만큼 밀리지 않도록)
+     * 이전 재조회가 아직 진행 중이면 건너뜀
+     * (여러 서버에서 함께 실행되면 같은 가게를 중복 조회할 수 있지만 결과는 같음)
+     */
+    @Scheduled(
+            initialDelayString = "${spring.store.geocode-retry.interval:PT1M}",
+            fixedDelayString = "${spring.store.geocode-retry.interval:PT1M}"
+    )
+    public void retryPendingLocations() {
+        if (!retrying.get().isDone()) {
+            return;
+        }
+
+        List<PendingGeocode> pendings = storeRepository.findPendingGeocodes(
+                GeocodeStatus.PENDING, LocalDateTime.now().minus(retryDelay), PageRequest.ofSize(batchSize)
+        );
+
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (PendingGeocode pending : pendings) {
+            chain = chain.thenCompose(ignored -> locate(pending.getStoreId(), pending.getStoreAddress()));
+        }
+        retrying.set(chain);
+    }
+
+    /**
+     * 좌표 조회 후 결과 반영
+     * 카카오 API 응답 스레드를 DB 작업에 쓰지 않도록 반영은 애플리케이션 실행기에서
+     * @param storeId
+     * @param storeAddress
+     * @return CompletableFuture<Void>
+     */
+    CompletableFuture<Void> locate(Long storeId, String storeAddress) {
+        CompletableFuture<double[]> location;
+        try {
+            location = kakaoMapService.getDistanceFromAddressAsync(storeAddress);
+        } catch (RuntimeException e) {
+            location = CompletableFuture.failedFuture(e);
+        }
+
+        return location
+                .handleAsync((result, e) -> {
+                    applyLocation(storeId, storeAddress, result, e);
+                    return (Void) null;
+                }, applicationTaskExecutor)
+                .exceptionally(e -> {
+                    log.warn("store location not updated. storeId = {}, address = {}", storeId, storeAddress, e);
+                    return null;
+                });
+    }
+
+    /**
+     * 좌표 조회 결과 반영
+     * 그 사이 주소가 바뀌었다면 이전 주소의 결과이므로 반영하지 않음
+     * @param storeId
+     * @param storeAddress
+     * @param location 조회에 실패했으면 null
+     * @param failure 조회에 성공했으면 null
+     */
+    void applyLocation(Long storeId, String storeAddress, double[] location, Throwable failure) {
+        Store located = transactionTemplate.execute(status -> storeRepository.findByIdForUpdate(storeId)
+                .filter(store -> store.getStoreAddress().equals(storeAddress))
+                .map(store -> {
+                    applyResult(store, location, failure);
+                    return store;
+                })
+                .orElse(null));
+
+        if (located != null && located.getGeocodeStatus() == GeocodeStatus.LOCATED) {
+            storeGeoIndex.put(storeId, located.getLatitude(), located.getLongitude());
+        }
+    }
+
+    /**
+     * 조회 결과에 따라 좌표, 조회 상태 변경
+     * 일시적인 실패는 재시도 횟수를 넘기 전까지 PENDING 유지
+     * @param store
+     * @param location
+     * @param failure
+     */
+    void applyResult(Store store, double[] location, Throwable failure) {
+        if (failure == null) {
+            store.setLatitude(location[0]);
+            store.setLongitude(location[1]);
+            store.setGeocodeStatus(GeocodeStatus.LOCATED);
+            return;
+        }
+
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+
+        if (cause instanceof KakaoException kakaoException
+                && kakaoException.getErrorCode() == ErrorCode.ADDRESS_NOT_FOUND) {
+            store.setGeocodeStatus(GeocodeStatus.NOT_FOUND);
+            return;
+        }
+
+        int attempts = store.getGeocodeAttempts() + 1;
+        store.setGeocodeAttempts(attempts);
+        store.setGeocodeStatus(attempts >= maxAttempts ? GeocodeStatus.FAILED : GeocodeStatus.PENDING);
+        log.warn("store geocoding failed. storeId = {}, attempts = {}", store.getId(), attempts, cause);
+    }
+}
@@ -0,0 +1,31 @@
+package com.reservation.service;
+
+import com.reservation.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가게 평점 합계, 리뷰 개수를 리뷰 테이블 기준으로 한 번 다시 계산
+ * 기존 데이터 이관 시 spring.store.rating-rebuild.enabled=true 로 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.store.rating-rebuild.enabled", havingValue = "true")
+public class StoreRatingRebuildRunner implements ApplicationRunner {
+
+    private final StoreRepository storeRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int rebuiltStores = storeRepository.rebuildRatings(LocalDateTime.now());
+
+        log.info("store ratings rebuilt. stores = {}", rebuiltStores);
+    }
+}
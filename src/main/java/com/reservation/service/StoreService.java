@@ -2,54 +2,85 @@ package com.reservation.service;
 
 import com.reservation.domain.Member;
 import com.reservation.domain.Store;
+import com.reservation.dto.CursorResponse;
 import com.reservation.dto.store.StoreDto;
 import com.reservation.dto.store.UpdateStoreDto;
 import com.reservation.exception.StoreException;
 import com.reservation.repository.StoreRepository;
+import com.reservation.repository.SummaryStreamRepository;
+import com.reservation.repository.projection.ResourceVersion;
+import com.reservation.repository.projection.StoreLocation;
+import com.reservation.repository.projection.StoreSummary;
 import com.reservation.type.ErrorCode;
+import com.reservation.type.GeocodeStatus;
+import com.reservation.type.SpatialQueryType;
+import com.reservation.util.CursorUtils;
+import com.reservation.util.TransactionUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class StoreService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MemberService memberService;
     private final KakaoMapService kakaoMapService;
     private final StoreRepository storeRepository;
+    private final SummaryStreamRepository summaryStreamRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreLocationService storeLocationService;
+    private final EntityManager entityManager;
+
+    @Value("${spring.store.spatial-query:MEMORY}")
+    private SpatialQueryType spatialQueryType;
 
     /**
      * 가게 정보 등록
+     * 좌표는 기다리지 않고 저장한 뒤 비동기로 조회해서 채움 (조회 결과는 응답의 geocodeStatus 로 확인)
      * @param request
      * @return StoreDto.Response
      */
+    @Transactional
     public StoreDto.Response createStore(StoreDto.Request request) {
         Member member = memberService.getMemberById(request.getMemberId());
 
         checkExistsStore(member, request.getStoreName());
 
-        double[] distanceFromAddress = kakaoMapService.getDistanceFromAddress(request.getStoreAddress());
-
-
-        return StoreDto.Response.fromEntity(
-                storeRepository.save(
-                        Store.builder()
-                                .storeName(request.getStoreName())
-                                .storeAddress(request.getStoreAddress())
-                                .description(request.getDescription())
-                                .member(member)
-                                .rating(0.0)
-                                .capacityPerson(request.getCapacityPerson())
-                                .latitude(distanceFromAddress[0])
-                                .longitude(distanceFromAddress[1])
-                                .build()
-                )
+        Store store = storeRepository.save(
+                Store.builder()
+                        .storeName(request.getStoreName())
+                        .storeAddress(request.getStoreAddress())
+                        .description(request.getDescription())
+                        .member(member)
+                        .rating(0.0)
+                        .capacityPerson(request.getCapacityPerson())
+                        .build()
         );
+        storeLocationService.requestLocation(store.getId(), store.getStoreAddress());
+
+        return StoreDto.Response.fromEntity(store);
     }
 
     /**
@@ -68,55 +99,336 @@ public class StoreService {
     }
 
     /**
-     * 전체 가게 목록 조회
-     * @return List<StoreDto.Response>
+     * 전체 가게 요약 정보를 DB 에서 읽는 대로 하나씩 전달 (목록을 메모리에 모으지 않음)
+     * 스트리밍 전용 커넥션 풀에서 읽으므로 JPA 트랜잭션(일반 풀 커넥션)은 열지 않음
+     * @param consumer
      */
-    public List<StoreDto.Response> getStores() {
-        List<Store> storeList = storeRepository.findAll();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamStoreSummaries(Consumer<StoreDto.Summary> consumer) {
+        try (Stream<StoreSummary> stores = summaryStreamRepository.streamStoreSummaries()) {
+            stores.map(StoreDto.Summary::fromProjection).forEach(consumer);
+        }
+    }
 
-        return storeList.stream()
-                .map(StoreDto.Response::fromEntity)
-                .collect(Collectors.toList());
+    /**
+     * 가게 이름 가나다순으로 정렬해서 가게 목록 조회 (커서 기반)
+     * 같은 이름은 ID 순으로 정렬
+     * @param cursor
+     * @param size
+     * @return CursorResponse<StoreDto.Response>
+     */
+    public CursorResponse<StoreDto.Response> getStoresSortedByName(String cursor, int size) {
+        return toCursorResponse(
+                findStoreIdsSortedByName(cursor, size), size,
+                this::getStoresInOrder, StoreDto.Response::fromEntity,
+                store -> CursorUtils.encode(store.getStoreName(), store.getId())
+        );
     }
 
     /**
-     * 가게 이름 가나다순으로 정렬해서 가게 목록 조회
-     * @return List<StoreDto.Response>
+     * 가게 이름 가나다순 목록 요약 조회 (view=summary, 점주 정보 없이 가게 컬럼만 조회)
+     * @param cursor
+     * @param size
+     * @return CursorResponse<StoreDto.Summary>
      */
-    public List<StoreDto.Response> getStoresSortedByName() {
-        List<Store> storeList = storeRepository.findAllByOrderByStoreNameAsc();
+    public CursorResponse<StoreDto.Summary> getStoreSummariesSortedByName(String cursor, int size) {
+        return toCursorResponse(
+                findStoreIdsSortedByName(cursor, size), size,
+                this::getStoreSummariesInOrder, StoreDto.Summary::fromProjection,
+                store -> CursorUtils.encode(store.getStoreName(), store.getStoreId())
+        );
+    }
 
-        return storeList.stream()
-                .map(StoreDto.Response::fromEntity)
-                .collect(Collectors.toList());
+    /**
+     * 가게 평점 순으로 정렬해서 가게 목록 조회 (커서 기반)
+     * 같은 평점은 ID 역순으로 정렬
+     * @param cursor
+     * @param size
+     * @return CursorResponse<StoreDto.Response>
+     */
+    public CursorResponse<StoreDto.Response> getStoresSortedByRating(String cursor, int size) {
+        return toCursorResponse(
+                findStoreIdsSortedByRating(cursor, size), size,
+                this::getStoresInOrder, StoreDto.Response::fromEntity,
+                store -> CursorUtils.encode(store.getRating(), store.getId())
+        );
     }
 
     /**
-     * 가게 평점 순으로 정렬해서 가게 목록 조회
-     * @return List<StoreDto.Response>
+     * 가게 평점순 목록 요약 조회 (view=summary)
+     * @param cursor
+     * @param size
+     * @return CursorResponse<StoreDto.Summary>
+     */
+    public CursorResponse<StoreDto.Summary> getStoreSummariesSortedByRating(String cursor, int size) {
+        return toCursorResponse(
+                findStoreIdsSortedByRating(cursor, size), size,
+                this::getStoreSummariesInOrder, StoreDto.Summary::fromProjection,
+                store -> CursorUtils.encode(store.getRating(), store.getStoreId())
+        );
+    }
+
+    /**
+     * 사용자의 위치에서 가게까지 거리순으로 가게 목록 조회 (커서 기반)
+     * 전체를 정렬하지 않고 커서 다음의 가까운 size 개만 크기가 제한된 힙으로 선택
+     * @param userLat
+     * @param userLng
+     * @param maxDistanceKm
+     * @param cursor
+     * @param size
+     * @return CursorResponse<StoreDto.Response>
      */
-    public List<StoreDto.Response> getStoresSortedByRating() {
-        List<Store> storeList = storeRepository.findAllByOrderByRatingDesc();
+    public CursorResponse<StoreDto.Response> getStoresSortedByDistance(
+            double userLat, double userLng, Double maxDistanceKm, String cursor, int size
+    ) {
+        return toDistanceCursorResponse(
+                findNearestStores(userLat, userLng, maxDistanceKm, cursor, size), size,
+                this::getStoresInOrder, StoreDto.Response::fromEntity
+        );
+    }
 
-        return storeList.stream()
-                .map(StoreDto.Response::fromEntity)
+    /**
+     * 거리순 목록 요약 조회 (view=summary)
+     * @param userLat
+     * @param userLng
+     * @param maxDistanceKm
+     * @param cursor
+     * @param size
+     * @return CursorResponse<StoreDto.Summary>
+     */
+    public CursorResponse<StoreDto.Summary> getStoreSummariesSortedByDistance(
+            double userLat, double userLng, Double maxDistanceKm, String cursor, int size
+    ) {
+        return toDistanceCursorResponse(
+                findNearestStores(userLat, userLng, maxDistanceKm, cursor, size), size,
+                this::getStoreSummariesInOrder, StoreDto.Summary::fromProjection
+        );
+    }
+
+    /**
+     * 이름순 가게 ID 를 커서 다음부터 size + 1 개 조회
+     * @param cursor
+     * @param size
+     * @return List<Long>
+     */
+    private List<Long> findStoreIdsSortedByName(String cursor, int size) {
+        checkPageSize(size);
+
+        Pageable pageable = PageRequest.ofSize(size + 1);
+        return cursor == null
+                ? storeRepository.findIdsOrderByStoreName(pageable)
+                : parseCursor(cursor, values -> storeRepository.findIdsOrderByStoreNameAfter(
+                        values[0], Long.parseLong(values[1]), pageable
+                ));
+    }
+
+    /**
+     * 평점순 가게 ID 를 커서 다음부터 size + 1 개 조회
+     * @param cursor
+     * @param size
+     * @return List<Long>
+     */
+    private List<Long> findStoreIdsSortedByRating(String cursor, int size) {
+        checkPageSize(size);
+
+        Pageable pageable = PageRequest.ofSize(size + 1);
+        return cursor == null
+                ? storeRepository.findIdsOrderByRating(pageable)
+                : parseCursor(cursor, values -> storeRepository.findIdsOrderByRatingAfter(
+                        Double.parseDouble(values[0]), Long.parseLong(values[1]), pageable
+                ));
+    }
+
+    /**
+     * 커서 다음으로 가까운 가게 size + 1 개 조회
+     * @param userLat
+     * @param userLng
+     * @param maxDistanceKm
+     * @param cursor
+     * @param size
+     * @return List<StoreGeoIndex.Neighbor>
+     */
+    private List<StoreGeoIndex.Neighbor> findNearestStores(
+            double userLat, double userLng, Double maxDistanceKm, String cursor, int size
+    ) {
+        checkPageSize(size);
+
+        if (maxDistanceKm != null && maxDistanceKm < 0) {
+            throw new StoreException(ErrorCode.INVALID_REQUEST);
+        }
+
+        StoreGeoIndex.Neighbor after = cursor == null
+                ? null
+                : parseCursor(cursor, values -> new StoreGeoIndex.Neighbor(
+                        Long.parseLong(values[1]), Double.parseDouble(values[0])
+                ));
+
+        return maxDistanceKm != null
+                ? findStoresWithinRadius(userLat, userLng, maxDistanceKm, size + 1, after)
+                : storeGeoIndex.findNearest(userLat, userLng, size + 1, null, after);
+    }
+
+    /**
+     * 다음 페이지 확인용으로 size + 1 개 조회한 가까운 가게 목록을 응답으로 변환
+     * @param neighbors
+     * @param size
+     * @param loader ID 목록 순서대로 가게(또는 요약) 조회
+     * @param mapper
+     * @return CursorResponse<R>
+     */
+    private <T, R> CursorResponse<R> toDistanceCursorResponse(
+            List<StoreGeoIndex.Neighbor> neighbors, int size,
+            Function<List<Long>, List<T>> loader, Function<T, R> mapper
+    ) {
+        boolean hasNext = neighbors.size() > size;
+        List<StoreGeoIndex.Neighbor> page = hasNext ? neighbors.subList(0, size) : neighbors;
+
+        String nextCursor = null;
+        if (hasNext) {
+            StoreGeoIndex.Neighbor last = page.get(page.size() - 1);
+            nextCursor = CursorUtils.encode(last.distanceKm(), last.storeId());
+        }
+
+        List<Long> storeIds = page.stream()
+                .map(StoreGeoIndex.Neighbor::storeId)
                 .collect(Collectors.toList());
+
+        return CursorResponse.<R>builder()
+                .content(loader.apply(storeIds).stream()
+                        .map(mapper)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
-     * 사용자의 위치에서 가게까지 거리순으로 가게 목록 조회
+     * 반경 안의 가게 중 after 다음으로 가까운 k 개 조회
+     * spring.store.spatial-query 설정에 따라 메모리 인덱스 또는 DB 에서 후보를 거른 뒤 선택
      * @param userLat
      * @param userLng
-     * @return List<StoreDto.Response>
+     * @param radiusKm
+     * @param k
+     * @param after
+     * @return List<StoreGeoIndex.Neighbor>
      */
-    public List<StoreDto.Response> getStoresSortedByDistance(double userLat, double userLng) {
-        List<Store> storeList = storeRepository.findAll();
+    private List<StoreGeoIndex.Neighbor> findStoresWithinRadius(
+            double userLat, double userLng, double radiusKm, int k, StoreGeoIndex.Neighbor after
+    ) {
+        if (spatialQueryType == SpatialQueryType.MEMORY) {
+            return storeGeoIndex.findNearest(userLat, userLng, k, radiusKm, after);
+        }
 
-        return storeList.stream()
-                .sorted(Comparator.comparingDouble(store -> calculateDistance(
-                        userLat, userLng, store.getLatitude(), store.getLongitude()
-                )))
-                .map(StoreDto.Response::fromEntity)
+        double latDelta = radiusKm / StoreGeoIndex.KM_PER_DEGREE;
+        double lngFactor = Math.cos(Math.toRadians(Math.min(90, Math.abs(userLat) + latDelta)));
+        double lngDelta = lngFactor > 0
+                ? Math.min(180, radiusKm / (StoreGeoIndex.KM_PER_DEGREE * lngFactor))
+                : 180;
+
+        List<StoreLocation> candidates = spatialQueryType == SpatialQueryType.MYSQL
+                ? storeRepository.findLocationsWithinDistance(
+                        userLat, userLng, radiusKm * 1000,
+                        userLat - latDelta, userLat + latDelta,
+                        userLng - lngDelta, userLng + lngDelta
+                )
+                : storeRepository.findLocationsInBoundingBox(
+                        userLat - latDelta, userLat + latDelta,
+                        userLng - lngDelta, userLng + lngDelta
+                );
+
+        NearestCollector collector = new NearestCollector(k);
+
+        for (StoreLocation candidate : candidates) {
+            double distance = calculateDistance(
+                    userLat, userLng, candidate.getLatitude(), candidate.getLongitude()
+            );
+
+            if (distance <= radiusKm && StoreGeoIndex.isAfter(candidate.getStoreId(), distance, after)) {
+                collector.offer(candidate.getStoreId(), distance);
+            }
+        }
+
+        return collector.toSortedList();
+    }
+
+    /**
+     * 페이지 크기 검증
+     * @param size
+     */
+    private void checkPageSize(int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new StoreException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    /**
+     * 커서 해석 (정렬 키, 가게 ID)
+     * @param cursor
+     * @param parser
+     * @return T
+     */
+    private <T> T parseCursor(String cursor, Function<String[], T> parser) {
+        try {
+            return parser.apply(CursorUtils.decode(cursor, 2));
+        } catch (IllegalArgumentException e) {
+            throw new StoreException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 다음 페이지 확인용으로 size + 1 개 조회한 ID 목록을 응답으로 변환
+     * @param storeIds
+     * @param size
+     * @param loader ID 목록 순서대로 가게(또는 요약) 조회
+     * @param mapper
+     * @param cursorOf
+     * @return CursorResponse<R>
+     */
+    private <T, R> CursorResponse<R> toCursorResponse(
+            List<Long> storeIds, int size, Function<List<Long>, List<T>> loader,
+            Function<T, R> mapper, Function<T, String> cursorOf
+    ) {
+        boolean hasNext = storeIds.size() > size;
+        List<T> stores = loader.apply(hasNext ? storeIds.subList(0, size) : storeIds);
+
+        String nextCursor = hasNext && !stores.isEmpty()
+                ? cursorOf.apply(stores.get(stores.size() - 1))
+                : null;
+
+        return CursorResponse.<R>builder()
+                .content(stores.stream()
+                        .map(mapper)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * ID 목록 순서대로 가게 정보 조회
+     * @param storeIds
+     * @return List<Store>
+     */
+    private List<Store> getStoresInOrder(List<Long> storeIds) {
+        return inOrder(storeIds, storeRepository.findAllByIdIn(storeIds), Store::getId);
+    }
+
+    /**
+     * ID 목록 순서대로 가게 요약 정보 조회
+     * @param storeIds
+     * @return List<StoreSummary>
+     */
+    private List<StoreSummary> getStoreSummariesInOrder(List<Long> storeIds) {
+        return inOrder(storeIds, storeRepository.findSummariesByIdIn(storeIds), StoreSummary::getStoreId);
+    }
+
+    private static <T> List<T> inOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> rowMap = rows.stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+
+        return ids.stream()
+                .map(rowMap::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
@@ -130,12 +442,41 @@ public class StoreService {
                 .orElseThrow(() -> new StoreException(ErrorCode.STORE_NOT_FOUND));
     }
 
+    /**
+     * 특정 가게 정보 조회 (점주 정보 포함 응답은 트랜잭션 안에서 생성)
+     * @param storeId
+     * @return StoreDto.Response
+     */
+    public StoreDto.Response getStoreDetails(Long storeId) {
+        return StoreDto.Response.fromEntity(getStoreById(storeId));
+    }
+
+    /**
+     * 특정 가게 응답의 마지막 수정 시각 (가게가 없으면 null)
+     * @param storeId
+     * @return LocalDateTime
+     */
+    public LocalDateTime getStoreLastModified(Long storeId) {
+        return storeRepository.findLastModifiedById(storeId).orElse(null);
+    }
+
+    /**
+     * 전체 가게 목록의 마지막 수정 시각, 가게 수
+     * @return ResourceVersion
+     */
+    public ResourceVersion getStoresVersion() {
+        return storeRepository.findVersion();
+    }
+
     /**
      * 특정 가게 정보 수정
+     * 조회한 엔티티를 바꾸고 변경 감지로 UPDATE (응답의 수정 시각을 위해 응답 생성 전에 flush)
+     * 주소가 바뀌면 커밋 후 위치 인덱스에서 빼고 새 주소로 좌표 조회
      * @param storeId
      * @param updateRequest
      * @return StoreDto.Response
      */
+    @Transactional
     public StoreDto.Response updateStore(Long storeId, UpdateStoreDto updateRequest) {
         Store store = getStoreById(storeId);
 
@@ -143,36 +484,62 @@ public class StoreService {
             store.setStoreName(updateRequest.getStoreName());
         }
 
-        if (updateRequest.getStoreAddress() != null) {
+        boolean addressChanged = updateRequest.getStoreAddress() != null
+                && !updateRequest.getStoreAddress().equals(store.getStoreAddress());
+
+        if (addressChanged) {
             store.setStoreAddress(updateRequest.getStoreAddress());
+            store.setLatitude(null);
+            store.setLongitude(null);
+            store.setGeocodeStatus(GeocodeStatus.PENDING);
+            store.setGeocodeAttempts(0);
         }
 
         if (updateRequest.getCapacityPerson() != null) {
             store.setCapacityPerson(updateRequest.getCapacityPerson());
         }
 
-        return StoreDto.Response.fromEntity(
-                storeRepository.save(store)
-        );
+        storeRepository.flush();
+
+        // 좌표 반영은 StoreLocationService 에서만 (이 트랜잭션이 읽은 좌표로 덮어쓰면 그 사이 반영된 좌표가 사라짐)
+        if (addressChanged) {
+            TransactionUtils.runAfterCommit(() -> storeGeoIndex.remove(storeId));
+            storeLocationService.requestLocation(store.getId(), store.getStoreAddress());
+        }
+
+        return StoreDto.Response.fromEntity(store);
     }
 
     /**
-     * 특정 가게 정보 삭제
+     * 특정 가게 정보 삭제 (위치 인덱스는 커밋 후에 제거)
      * @param storeId
      */
+    @Transactional
     public void deleteStore(Long storeId) {
         storeRepository.deleteById(storeId);
+        TransactionUtils.runAfterCommit(() -> storeGeoIndex.remove(storeId));
     }
 
     /**
-     * 리뷰 평점 갱신
+     * 리뷰 평점 반영
+     * 가게의 평점 합계, 리뷰 개수에 변화량만 더해서 평균 평점 갱신
+     * 벌크 UPDATE 는 2차 캐시의 store 영역 전체를 비우므로 가게 하나만 행 잠금으로 다시 읽어서 엔티티로 변경
+     * (이미 읽은 가게라도 잠금과 함께 DB 에서 다시 읽어 동시에 반영된 평점을 덮어쓰지 않음)
      * @param storeId
-     * @param rating
+     * @param ratingDelta
+     * @param countDelta
      */
-    public void updateStoreRating(Long storeId, Double rating) {
+    @Transactional
+    public void addStoreRating(Long storeId, double ratingDelta, int countDelta) {
         Store store = getStoreById(storeId);
-        store.setRating(rating);
-        storeRepository.save(store);
+        entityManager.refresh(store, LockModeType.PESSIMISTIC_WRITE);
+
+        double ratingSum = store.getRatingSum() + ratingDelta;
+        int reviewCount = store.getReviewCount() + countDelta;
+
+        store.setRatingSum(ratingSum);
+        store.setReviewCount(reviewCount);
+        store.setRating(reviewCount > 0 ? ratingSum / reviewCount : 0.0);
     }
 
     /**
@@ -184,17 +551,6 @@ public class StoreService {
      * @return double
      */
     public double calculateDistance(double userLat, double userLng, double storeLat, double storeLng) {
-        final int EARTH_RADIUS = 6371; // 지구 반지름 (킬로미터)
-
-        double latDistance = Math.toRadians(storeLat - userLat);
-        double lngDistance = Math.toRadians(storeLng - userLng);
-
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(userLat)) * Math.cos(Math.toRadians(storeLat))
-                * Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return EARTH_RADIUS * c; // 계산된 거리 반환 (킬로미터)
+        return StoreGeoIndex.distanceKm(userLat, userLng, storeLat, storeLng);
     }
 }
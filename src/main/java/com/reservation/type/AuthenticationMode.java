@@ -0,0 +1,11 @@
+package com.reservation.type;
+
+/**
+ * 요청마다 Authentication 을 만드는 방식
+ * MEMBER_LOOKUP: 토큰의 username 으로 DB 에서 회원 조회
+ * CLAIMS: 검증된 토큰의 claim (username, role, memberId) 만으로 생성
+ *         역할 변경, 회원 탈퇴는 액세스 토큰이 만료될 때까지 반영되지 않으므로 기본값은 MEMBER_LOOKUP
+ */
+public enum AuthenticationMode {
+    MEMBER_LOOKUP, CLAIMS
+}
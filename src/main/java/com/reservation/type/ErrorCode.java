@@ -8,6 +8,7 @@ import lombok.Getter;
 public enum ErrorCode {
 
     INVALID_REQUEST("잘못된 요청입니다."),
+    INVALID_CURSOR("잘못된 커서입니다."),
     INTERNAL_SERVER_ERROR("내부 서버 오류가 발생했습니다."),
     MEMBER_NOT_FOUND("사용자가 존재하지 않습니다."),
     REVIEW_NOT_FOUND("리뷰가 존재하지 않습니다."),
@@ -21,10 +22,18 @@ public enum ErrorCode {
     RESERVATION_MEMBER_UNMATCHED("예약자와 일치하지 않습니다."),
     RESERVATION_DATE_UNMATCHED("예약한 날짜와 맞지 않습니다."),
     RESERVATION_VISIT_TIME_OVER("예약 도착시간이 지났습니다. 예약이 거절되었습니다."),
+    RESERVATION_STATUS_CONFLICT("현재 예약 상태에서는 변경할 수 없습니다."),
     STORE_NOT_FOUND("점포가 존재하지 않습니다."),
     STORE_ALREADY_EXISTS("점포가 이미 존재 합니다."),
+    INVALID_IMPORT_FILE("가게 목록 파일 형식이 올바르지 않습니다."),
+    STORE_IMPORT_JOB_NOT_FOUND("가게 일괄 등록 작업이 존재하지 않습니다."),
+    STORE_IMPORT_BUSY("진행 중인 가게 일괄 등록이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
     PASSWORD_UNMATCHED("비밀번호가 일치하지 않습니다."),
+    INVALID_TOKEN("유효하지 않은 토큰입니다."),
+    PASSWORD_HASHING_BUSY("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    STREAMING_BUSY("동시에 받을 수 있는 목록 스트리밍 수를 넘었습니다. 잠시 후 다시 시도해 주세요."),
     ADDRESS_NOT_FOUND("주소를 찾을 수 없습니다."),
+    GEOCODING_UNAVAILABLE("주소 좌표 조회 서비스를 사용할 수 없습니다."),
     MEMBER_ALREADY_EXISTS("이미 존재하는 사용자 입니다.");
 
     private final String description;
@@ -0,0 +1,11 @@
+package com.reservation.type;
+
+public enum GeocodeStatus {
+    // 좌표 조회 전이거나 일시적인 실패(동시 호출 제한, 타임아웃, 카카오 API 오류)로 재시도 대기
+    PENDING,
+    LOCATED,
+    // 카카오 API 에서 주소를 찾지 못함 (재시도하지 않음)
+    NOT_FOUND,
+    // 재시도 횟수 초과
+    FAILED
+}
@@ -1,5 +1,29 @@
 package com.reservation.type;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum ReservationStatus {
-    REJECTION, WAITING, CONFIRMATION
+    REJECTION, WAITING, CONFIRMATION;
+
+    /**
+     * 이 상태로 변경할 수 있는 이전 상태
+     * WAITING -> CONFIRMATION, WAITING -> REJECTION 만 허용
+     * (WAITING 은 예약 신청, 수정 시에만 지정)
+     * @return Set<ReservationStatus>
+     */
+    public Set<ReservationStatus> allowedFrom() {
+        return switch (this) {
+            case CONFIRMATION, REJECTION -> EnumSet.of(WAITING);
+            case WAITING -> EnumSet.noneOf(ReservationStatus.class);
+        };
+    }
+
+    /**
+     * 도착 확인을 할 수 있는 상태 (거절되지 않은 예약)
+     * @return Set<ReservationStatus>
+     */
+    public static Set<ReservationStatus> visitable() {
+        return EnumSet.of(WAITING, CONFIRMATION);
+    }
 }
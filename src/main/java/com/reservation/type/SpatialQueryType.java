@@ -0,0 +1,7 @@
+package com.reservation.type;
+
+public enum SpatialQueryType {
+    MEMORY,
+    MYSQL,
+    BOUNDING_BOX
+}
@@ -0,0 +1,11 @@
+package com.reservation.type;
+
+/**
+ * 가게 일괄 등록 파일 형식
+ * CSV: 첫 줄은 헤더 (storeName, storeAddress, description, capacityPerson)
+ * NDJSON: 한 줄에 가게 하나 (StoreDto.Request 형식)
+ */
+public enum StoreImportFormat {
+    CSV,
+    NDJSON
+}
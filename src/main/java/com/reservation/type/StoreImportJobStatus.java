@@ -0,0 +1,12 @@
+package com.reservation.type;
+
+/**
+ * 가게 일괄 등록 작업 상태
+ * QUEUED: 대기열에서 대기, RUNNING: 등록 중, COMPLETED: 완료 (행별 결과 조회 가능), FAILED: 파일 형식 오류 등으로 중단
+ */
+public enum StoreImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,13 @@
+package com.reservation.type;
+
+/**
+ * 가게 일괄 등록 행별 결과
+ * CREATED: 등록 (좌표 조회에 실패해도 등록), DUPLICATE: 같은 점주의 같은 이름 가게가 이미 있음
+ * INVALID: 형식 오류, FAILED: 저장 실패
+ */
+public enum StoreImportStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID,
+    FAILED
+}
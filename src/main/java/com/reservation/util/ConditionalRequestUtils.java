@@ -0,0 +1,56 @@
+package com.reservation.util;
+
+import com.reservation.repository.projection.ResourceVersion;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET (ETag, Last-Modified) 처리
+ * 응답에 포함되는 엔티티들의 마지막 수정 시각(updatedAt)과 개수로 약한 ETag 생성
+ * 개수를 함께 넣어 삭제처럼 수정 시각이 늘지 않는 변경도 반영
+ * 요청의 If-None-Match / If-Modified-Since 와 같으면 304 응답으로 표시 (응답 본문 생성 생략)
+ */
+public final class ConditionalRequestUtils {
+
+    private ConditionalRequestUtils() {
+    }
+
+    /**
+     * 단건 조회 (마지막 수정 시각이 없으면, 즉 대상이 없으면 비교하지 않음)
+     * @param request
+     * @param lastModified
+     * @return boolean (true 면 304)
+     */
+    public static boolean checkNotModified(WebRequest request, LocalDateTime lastModified) {
+        if (lastModified == null) {
+            return false;
+        }
+
+        return checkNotModified(request, lastModified, 1);
+    }
+
+    /**
+     * 목록 조회
+     * @param request
+     * @param version
+     * @return boolean (true 면 304)
+     */
+    public static boolean checkNotModified(WebRequest request, ResourceVersion version) {
+        return checkNotModified(
+                request,
+                version.getLastModified(),
+                version.getCount() == null ? 0 : version.getCount()
+        );
+    }
+
+    private static boolean checkNotModified(WebRequest request, LocalDateTime lastModified, long count) {
+        long lastModifiedMillis = lastModified == null
+                ? 0
+                : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String etag = "W/\"" + Long.toHexString(lastModifiedMillis) + "-" + Long.toHexString(count) + "\"";
+
+        return request.checkNotModified(etag, lastModifiedMillis);
+    }
+}
@@ -0,0 +1,57 @@
+package com.reservation.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 한 줄 해석 (RFC 4180)
+ * 쉼표가 들어간 값은 큰따옴표로 감싸고, 값 안의 큰따옴표는 두 번 ("") 적음
+ * 줄바꿈이 들어간 값은 지원하지 않음 (한 줄에 한 행)
+ */
+public final class CsvUtils {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CsvUtils() {
+    }
+
+    /**
+     * @param line
+     * @return List<String>
+     */
+    public static List<String> parseLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    value.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다.");
+        }
+
+        values.add(value.toString());
+        return values;
+    }
+}
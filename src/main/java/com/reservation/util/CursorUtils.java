@@ -0,0 +1,54 @@
+package com.reservation.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 기반 페이지 조회에 사용하는 커서 문자열 생성/해석
+ * 정렬 키 값들을 각각 URL-safe Base64 로 인코딩해 '.' 으로 이어 붙임
+ */
+public final class CursorUtils {
+
+    private static final String DELIMITER = ".";
+
+    private CursorUtils() {
+    }
+
+    /**
+     * 정렬 키 값들로 커서 생성
+     * @param values
+     * @return String
+     */
+    public static String encode(Object... values) {
+        return Arrays.stream(values)
+                .map(value -> Base64.getUrlEncoder().withoutPadding().encodeToString(
+                        Objects.toString(value).getBytes(StandardCharsets.UTF_8)
+                ))
+                .collect(Collectors.joining(DELIMITER));
+    }
+
+    /**
+     * 커서를 정렬 키 값들로 해석
+     * 형식이 맞지 않으면 IllegalArgumentException
+     * @param cursor
+     * @param size
+     * @return String[]
+     */
+    public static String[] decode(String cursor, int size) {
+        String[] parts = cursor.split("\\.", -1);
+
+        if (parts.length != size) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor);
+        }
+
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = new String(Base64.getUrlDecoder().decode(parts[i]), StandardCharsets.UTF_8);
+        }
+
+        return values;
+    }
+}
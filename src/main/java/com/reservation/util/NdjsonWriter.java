@@ -0,0 +1,43 @@
+package com.reservation.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 객체를 한 줄에 하나씩 JSON 으로 바로 써 내려가는 NDJSON 출력
+ * 목록을 메모리에 모으지 않고 받은 순서대로 직렬화 (출력 버퍼가 차면 바로 응답으로 전송)
+ * 닫아도 응답 스트림은 닫지 않음
+ * @param <T>
+ */
+public class NdjsonWriter<T> implements Consumer<T>, Closeable {
+
+    private final SequenceWriter sequenceWriter;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.sequenceWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream);
+    }
+
+    @Override
+    public void accept(T value) {
+        try {
+            sequenceWriter.write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        sequenceWriter.close();
+    }
+}
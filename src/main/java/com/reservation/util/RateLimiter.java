@@ -0,0 +1,44 @@
+package com.reservation.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 초당 호출 수 제한
+ * 호출 시각을 1 / permitsPerSecond 간격으로 하나씩 배정하고, 배정된 시각까지 대기
+ * 여러 스레드가 함께 사용해도 전체 호출 수가 제한을 넘지 않음
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextPermitNanos = System.nanoTime();
+
+    /**
+     * @param permitsPerSecond (0 이하면 제한 없음)
+     */
+    public RateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond)
+                : 0;
+    }
+
+    /**
+     * 다음 호출 시각까지 대기
+     */
+    public void acquire() {
+        if (intervalNanos == 0) {
+            return;
+        }
+
+        long permitNanos;
+        synchronized (this) {
+            permitNanos = Math.max(nextPermitNanos, System.nanoTime());
+            nextPermitNanos = permitNanos + intervalNanos;
+        }
+
+        long waitNanos;
+        while ((waitNanos = permitNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.reservation.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 작업 등록
+ * 메모리 인덱스, 캐시, 외부 API 호출처럼 롤백되지 않는 작업은 커밋이 확정된 뒤에 실행
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 실행 (롤백되면 실행하지 않음), 트랜잭션 밖이면 바로 실행
+     * @param task
+     */
+    public static void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
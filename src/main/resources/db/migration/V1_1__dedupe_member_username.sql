@@ -0,0 +1,10 @@
+-- V2 의 username UNIQUE 제약을 적용하기 전에 기존 중복 username 정리
+-- 같은 username 중 가장 먼저 가입한(id 가 가장 작은) 회원만 이름을 유지하고
+-- 나머지는 "<username>#<id>" 로 바꿈 (이전 이름으로는 로그인할 수 없으므로 해당 회원에게 안내 필요)
+UPDATE member m
+    JOIN (SELECT username, MIN(id) AS keep_id
+          FROM member
+          GROUP BY username
+          HAVING COUNT(*) > 1) duplicated
+    ON m.username = duplicated.username AND m.id <> duplicated.keep_id
+SET m.username = CONCAT(LEFT(m.username, 200), '#', m.id);
@@ -0,0 +1,91 @@
+-- 기준 스키마 (MySQL 8)
+-- Flyway 도입 전 ddl-auto: update 로 만들어진 스키마 + db/mysql 스크립트(store_location, reservation_slot) 적용 상태
+-- 기존 DB 는 baseline-on-migrate 로 이 버전을 적용된 것으로 표시하고 V2 부터 실행
+CREATE TABLE member (
+    id           BIGINT                 NOT NULL AUTO_INCREMENT,
+    username     VARCHAR(255)           NOT NULL,
+    password     VARCHAR(255)           NOT NULL,
+    phone_number VARCHAR(255)           NOT NULL,
+    role         ENUM ('USER', 'OWNER') NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE store (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    store_name      VARCHAR(255) NOT NULL,
+    store_address   VARCHAR(255) NOT NULL,
+    description     VARCHAR(255),
+    member_id       BIGINT       NOT NULL,
+    capacity_person INT          NOT NULL,
+    rating          DOUBLE,
+    rating_sum      DOUBLE       NOT NULL,
+    review_count    INT          NOT NULL,
+    latitude        DOUBLE       NULL,
+    longitude       DOUBLE       NULL,
+    location        POINT GENERATED ALWAYS AS (POINT(COALESCE(longitude, 0), COALESCE(latitude, 0))) STORED NOT NULL SRID 0,
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_store_name_id (store_name, id),
+    INDEX idx_store_rating_id (rating, id),
+    SPATIAL INDEX idx_store_location (location),
+    CONSTRAINT fk_store_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE reservation (
+    id               BIGINT                                      NOT NULL AUTO_INCREMENT,
+    store_id         BIGINT                                      NOT NULL,
+    member_id        BIGINT                                      NOT NULL,
+    status           ENUM ('REJECTION', 'WAITING', 'CONFIRMATION'),
+    visitor_num      INT                                         NOT NULL,
+    is_visited       BIT                                         NOT NULL,
+    reservation_date DATETIME(6)                                 NOT NULL,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reservation_store FOREIGN KEY (store_id) REFERENCES store (id),
+    CONSTRAINT fk_reservation_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE reservation_slot (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    store_id     BIGINT      NOT NULL,
+    slot_time    DATETIME(6) NOT NULL,
+    reserved_num INT         NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reservation_slot_store_slot UNIQUE (store_id, slot_time),
+    CONSTRAINT fk_reservation_slot_store FOREIGN KEY (store_id) REFERENCES store (id)
+);
+
+CREATE TABLE review (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    store_id   BIGINT       NOT NULL,
+    member_id  BIGINT       NOT NULL,
+    content    VARCHAR(255) NOT NULL,
+    rating     DOUBLE       NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_review_store_created (store_id, created_at),
+    INDEX idx_review_store_rating (store_id, rating),
+    INDEX idx_review_member_created (member_id, created_at),
+    CONSTRAINT fk_review_store FOREIGN KEY (store_id) REFERENCES store (id),
+    CONSTRAINT fk_review_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE geocode (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    address    VARCHAR(500) NOT NULL,
+    latitude   DOUBLE,
+    longitude  DOUBLE,
+    found      BIT          NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_geocode_address UNIQUE (address)
+);
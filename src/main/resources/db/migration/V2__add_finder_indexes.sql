@@ -0,0 +1,9 @@
+-- 자주 쓰는 조회 조건별 복합 인덱스
+-- reservation (store_id, reservation_date): 가게 예약 목록, 날짜별 예약 목록 (reservation_date 범위 조회)
+-- reservation (member_id, store_id, reservation_date): 예약 중복 확인 (회원 + 가게 [+ 일시])
+-- review (member_id, store_id): 리뷰 중복 확인 (회원 + 가게)
+-- member (username) UNIQUE: 로그인, 가입 시 중복 확인 (기존 중복 username 은 V1_1 에서 정리)
+CREATE INDEX idx_reservation_store_date ON reservation (store_id, reservation_date);
+CREATE INDEX idx_reservation_member_store_date ON reservation (member_id, store_id, reservation_date);
+CREATE INDEX idx_review_member_store ON review (member_id, store_id);
+ALTER TABLE member ADD CONSTRAINT uk_member_username UNIQUE (username);
@@ -0,0 +1,18 @@
+-- 풀링 시퀀스 ID (MySQL 에는 시퀀스가 없으므로 Hibernate 가 <엔티티>_seq 테이블로 대신 사용)
+-- 한 번에 50 개씩 ID 를 할당 (allocationSize = 50), 저장된 값이 할당 범위의 끝
+-- 기존 AUTO_INCREMENT ID 와 겹치지 않도록 현재 최대 ID + 50 에서 시작
+-- reservation_slot 은 네이티브 INSERT 를 사용하므로 AUTO_INCREMENT 유지
+CREATE TABLE member_seq (next_val BIGINT);
+INSERT INTO member_seq SELECT COALESCE(MAX(id), 0) + 50 FROM member;
+
+CREATE TABLE store_seq (next_val BIGINT);
+INSERT INTO store_seq SELECT COALESCE(MAX(id), 0) + 50 FROM store;
+
+CREATE TABLE reservation_seq (next_val BIGINT);
+INSERT INTO reservation_seq SELECT COALESCE(MAX(id), 0) + 50 FROM reservation;
+
+CREATE TABLE review_seq (next_val BIGINT);
+INSERT INTO review_seq SELECT COALESCE(MAX(id), 0) + 50 FROM review;
+
+CREATE TABLE geocode_seq (next_val BIGINT);
+INSERT INTO geocode_seq SELECT COALESCE(MAX(id), 0) + 50 FROM geocode;
@@ -0,0 +1,9 @@
+-- 가게 좌표 조회 상태 (PENDING 은 주기적으로 다시 조회)
+-- 기존 가게는 좌표가 있으면 LOCATED, 없으면 PENDING 으로 두어 다시 조회
+ALTER TABLE store
+    ADD COLUMN geocode_status   ENUM ('PENDING', 'LOCATED', 'NOT_FOUND', 'FAILED') NOT NULL DEFAULT 'PENDING',
+    ADD COLUMN geocode_attempts INT NOT NULL DEFAULT 0;
+
+UPDATE store SET geocode_status = 'LOCATED' WHERE latitude IS NOT NULL AND longitude IS NOT NULL;
+
+CREATE INDEX idx_store_geocode_status_updated_at ON store (geocode_status, updated_at);
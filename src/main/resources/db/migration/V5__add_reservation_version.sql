@@ -0,0 +1,2 @@
+-- 예약 낙관적 잠금 버전 (예약 수정, 상태 변경은 읽은 버전이 그대로일 때만 반영)
+ALTER TABLE reservation ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,27 @@
+-- 시간대별 예약 인원 장부 채우기
+-- Flyway 도입 전 DB 는 V1 을 건너뛰므로(baseline) db/mysql/reservation_slot.sql 을 실행하지 않았다면 장부가 없거나 비어 있음
+-- 장부가 비어 있으면 이미 예약이 있는 시간대도 0 명부터 받아 수용인원을 넘겨 예약되므로 기존 예약(거절 제외)으로 채움
+-- 이미 있는 시간대는 현재 예약 기준으로 덮어씀
+CREATE TABLE IF NOT EXISTS reservation_slot (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    store_id     BIGINT      NOT NULL,
+    slot_time    DATETIME(6) NOT NULL,
+    reserved_num INT         NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reservation_slot_store_slot UNIQUE (store_id, slot_time),
+    CONSTRAINT fk_reservation_slot_store FOREIGN KEY (store_id) REFERENCES store (id)
+);
+
+INSERT INTO reservation_slot (store_id, slot_time, reserved_num, created_at, updated_at)
+SELECT r.store_id,
+       DATE_FORMAT(r.reservation_date, '%Y-%m-%d %H:00:00'),
+       SUM(r.visitor_num),
+       NOW(6),
+       NOW(6)
+FROM reservation r
+WHERE r.status IS NULL OR r.status <> 'REJECTION'
+GROUP BY r.store_id, DATE_FORMAT(r.reservation_date, '%Y-%m-%d %H:00:00')
+ON DUPLICATE KEY UPDATE reserved_num = VALUES(reserved_num),
+                        updated_at   = VALUES(updated_at);
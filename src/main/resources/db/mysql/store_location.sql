@@ -0,0 +1,9 @@
+-- 가게 위치 공간 인덱스 (MySQL 8)
+-- latitude/longitude 로부터 계산되는 POINT(경도, 위도) 컬럼과 SPATIAL INDEX 추가
+-- 새 DB 는 db/migration/V1 에 포함, Flyway 도입 전에 만든 DB 에서 spatial-query: MYSQL 로 사용하기 전에 한 번 실행
+-- 좌표가 아직 채워지지 않은 가게는 (0, 0) 으로 두고, 조회 시 latitude IS NOT NULL 로 제외
+ALTER TABLE store
+    MODIFY latitude DOUBLE NULL,
+    MODIFY longitude DOUBLE NULL,
+    ADD COLUMN location POINT GENERATED ALWAYS AS (POINT(COALESCE(longitude, 0), COALESCE(latitude, 0))) STORED NOT NULL SRID 0,
+    ADD SPATIAL INDEX idx_store_location (location);
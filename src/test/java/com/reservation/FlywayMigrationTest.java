@@ -0,0 +1,171 @@
+package com.reservation;
+
+import com.reservation.domain.Member;
+import com.reservation.domain.Store;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.repository.projection.StoreLocation;
+import com.reservation.type.GeocodeStatus;
+import com.reservation.type.Role;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 실제 MySQL 에서 Flyway 마이그레이션(V1 ~) 적용 후 엔티티 매핑이 스키마와 맞는지(ddl-auto=validate) 확인
+ * V1 만 적용된 기존 DB(중복 username, AUTO_INCREMENT ID 데이터, 예약 장부 없이 쌓인 예약)에서 시작해 나머지 버전을 적용
+ * (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.flyway.enabled=true",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.database=mysql",
+        "spring.store.spatial-query=MYSQL"
+})
+class FlywayMigrationTest {
+
+    private static final long EXISTING_MEMBER_ID = 120;
+    private static final long DUPLICATED_MEMBER_ID = 121;
+    private static final long EXISTING_STORE_ID = 300;
+    private static final String SLOT_18 = "2030-01-01 18:00:00";
+    private static final String SLOT_19 = "2030-01-01 19:00:00";
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        migrateToBaseline();
+
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Test
+    void migrationsApplied() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("6");
+    }
+
+    @Test
+    void duplicatedUsernamesRenamedBeforeUniqueConstraint() {
+        List<String> usernames = jdbcTemplate.queryForList(
+                "SELECT username FROM member WHERE id IN (?, ?) ORDER BY id", String.class,
+                EXISTING_MEMBER_ID, DUPLICATED_MEMBER_ID
+        );
+
+        assertThat(usernames).containsExactly("owner", "owner#" + DUPLICATED_MEMBER_ID);
+    }
+
+    @Test
+    void pooledSequencesStartAfterExistingIds() {
+        Member member = memberRepository.save(Member.builder()
+                .username("migrated-owner")
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .role(Role.OWNER)
+                .build());
+
+        Store store = storeRepository.save(Store.builder()
+                .storeName("migrated-store")
+                .storeAddress("서울특별시 중구 세종대로 110")
+                .member(member)
+                .capacityPerson(4)
+                .rating(0.0)
+                .build());
+
+        assertThat(member.getId()).isGreaterThan(DUPLICATED_MEMBER_ID);
+        assertThat(store.getId()).isGreaterThan(EXISTING_STORE_ID);
+    }
+
+    @Test
+    void existingStoreLocatedAndSpatialQueryWorks() {
+        Store existing = storeRepository.findById(EXISTING_STORE_ID).orElseThrow();
+        assertThat(existing.getGeocodeStatus()).isEqualTo(GeocodeStatus.LOCATED);
+
+        List<StoreLocation> locations = storeRepository.findLocationsWithinDistance(
+                37.5665, 126.9780, 1_000, 37.55, 37.58, 126.96, 126.99
+        );
+
+        assertThat(locations).extracting(StoreLocation::getStoreId).contains(EXISTING_STORE_ID);
+    }
+
+    @Test
+    void reservationSlotsBackfilledFromExistingReservations() {
+        List<Map<String, Object>> slots = jdbcTemplate.queryForList(
+                "SELECT DATE_FORMAT(slot_time, '%Y-%m-%d %H:%i:%s') AS slot, reserved_num FROM reservation_slot "
+                        + "WHERE store_id = ? ORDER BY slot_time", EXISTING_STORE_ID
+        );
+
+        assertThat(slots)
+                .extracting(slot -> slot.get("slot"), slot -> ((Number) slot.get("reserved_num")).intValue())
+                .containsExactly(tuple(SLOT_18, 5), tuple(SLOT_19, 1));
+    }
+
+    /**
+     * V1 까지만 적용하고 기존 데이터(중복 username, AUTO_INCREMENT ID)를 넣어 둠
+     * 나머지 버전은 애플리케이션 시작 시 Flyway 가 적용
+     */
+    private static void migrateToBaseline() {
+        Flyway.configure()
+                .dataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword())
+                .target("1")
+                .load()
+                .migrate();
+
+        JdbcTemplate baseline = new JdbcTemplate(new DriverManagerDataSource(
+                mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword()
+        ));
+        baseline.update("INSERT INTO member (id, username, password, phone_number, role, created_at, updated_at) "
+                + "VALUES (?, 'owner', 'password', '010-0000-0000', 'OWNER', NOW(6), NOW(6)), "
+                + "(?, 'owner', 'password', '010-0000-0000', 'OWNER', NOW(6), NOW(6))",
+                EXISTING_MEMBER_ID, DUPLICATED_MEMBER_ID);
+        baseline.update("INSERT INTO store (id, store_name, store_address, member_id, capacity_person, "
+                + "rating, rating_sum, review_count, latitude, longitude, created_at, updated_at) "
+                + "VALUES (?, 'existing-store', '서울특별시 중구 세종대로 110', ?, 4, 0.0, 0.0, 0, "
+                + "37.5665, 126.9780, NOW(6), NOW(6))",
+                EXISTING_STORE_ID, EXISTING_MEMBER_ID);
+
+        // db/mysql/reservation_slot.sql 을 실행하지 않은 DB (장부 없이 예약만 있음)
+        baseline.update("DROP TABLE reservation_slot");
+        baseline.update("INSERT INTO reservation (id, store_id, member_id, status, visitor_num, is_visited, "
+                + "reservation_date, created_at, updated_at) VALUES "
+                + "(400, ?, ?, 'WAITING', 2, 0, '2030-01-01 18:10:00', NOW(6), NOW(6)), "
+                + "(401, ?, ?, 'CONFIRMATION', 3, 0, '2030-01-01 18:40:00', NOW(6), NOW(6)), "
+                + "(402, ?, ?, 'REJECTION', 4, 0, '2030-01-01 18:20:00', NOW(6), NOW(6)), "
+                + "(403, ?, ?, NULL, 1, 0, '2030-01-01 19:00:00', NOW(6), NOW(6))",
+                EXISTING_STORE_ID, DUPLICATED_MEMBER_ID, EXISTING_STORE_ID, DUPLICATED_MEMBER_ID,
+                EXISTING_STORE_ID, DUPLICATED_MEMBER_ID, EXISTING_STORE_ID, DUPLICATED_MEMBER_ID);
+    }
+}
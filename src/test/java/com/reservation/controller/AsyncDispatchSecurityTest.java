@@ -0,0 +1,129 @@
+package com.reservation.controller;
+
+import com.reservation.domain.Member;
+import com.reservation.domain.Store;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.ReservationRepository;
+import com.reservation.repository.ReviewRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.security.JwtAuthenticationFilter;
+import com.reservation.security.TokenProvider;
+import com.reservation.type.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비동기 응답 API 가 실제 토큰으로 인증한 뒤 ASYNC 재디스패치에서도 응답을 끝까지 보내는지 확인
+ * (JWT 필터는 요청당 한 번만 실행되므로 재디스패치에는 인증 정보가 없음)
+ * 스트리밍 응답도 재디스패치까지 끝나고, 없는 가게는 전송 시작 전에 오류 응답하는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AsyncDispatchSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private Member member;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository.deleteAll();
+        reservationRepository.deleteAll();
+        storeRepository.deleteAll();
+        memberRepository.deleteAll();
+
+        member = memberRepository.save(Member.builder()
+                .username("async-member")
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .role(Role.OWNER)
+                .build());
+
+        accessToken = tokenProvider.generateTokens(member.getId(), member.getUsername(), member.getRole())
+                .getAccessToken();
+    }
+
+    @Test
+    void updateMember_completesOnAsyncDispatch() throws Exception {
+        MvcResult result = mockMvc.perform(patch("/api/v1/members/{userId}", member.getId())
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, JwtAuthenticationFilter.TOKEN_PREFIX + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"phoneNumber\":\"010-1111-2222\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.phoneNumber").value("010-1111-2222"));
+    }
+
+    @Test
+    void storeStream_completesOnAsyncDispatch() throws Exception {
+        storeRepository.save(Store.builder()
+                .storeName("stream-store")
+                .storeAddress("서울특별시 중구 세종대로 110")
+                .member(member)
+                .capacityPerson(4)
+                .rating(0.0)
+                .build());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/stores/stream")
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, JwtAuthenticationFilter.TOKEN_PREFIX + accessToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("\"storeName\":\"stream-store\"")));
+    }
+
+    @Test
+    void reviewStream_unknownStore_rejectedBeforeStreaming() throws Exception {
+        mockMvc.perform(get("/api/v1/reviews/store/{storeId}/stream", Long.MAX_VALUE)
+                        .header(JwtAuthenticationFilter.TOKEN_HEADER, JwtAuthenticationFilter.TOKEN_PREFIX + accessToken))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("STORE_NOT_FOUND"));
+    }
+
+    @Test
+    void updateMember_withoutToken_rejectedBeforeAsync() throws Exception {
+        mockMvc.perform(patch("/api/v1/members/{userId}", member.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"phoneNumber\":\"010-1111-2222\"}"))
+                .andExpect(status().isForbidden());
+    }
+}
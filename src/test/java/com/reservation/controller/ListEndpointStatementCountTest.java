@@ -0,0 +1,160 @@
+package com.reservation.controller;
+
+import com.reservation.domain.Member;
+import com.reservation.domain.Reservation;
+import com.reservation.domain.Review;
+import com.reservation.domain.Store;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.ReservationRepository;
+import com.reservation.repository.ReviewRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.type.ReservationStatus;
+import com.reservation.type.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록 조회 API 가 행 수와 관계없이 일정한 수의 쿼리만 실행하는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = {"USER", "OWNER"})
+class ListEndpointStatementCountTest {
+
+    private static final int ROWS = 10;
+    private static final long MAX_STATEMENTS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private Statistics statistics;
+    private Store store;
+    private Member customer;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        reviewRepository.deleteAll();
+        reservationRepository.deleteAll();
+        storeRepository.deleteAll();
+        memberRepository.deleteAll();
+
+        List<Store> stores = new ArrayList<>();
+        List<Member> customers = new ArrayList<>();
+
+        for (int i = 0; i < ROWS; i++) {
+            Member owner = memberRepository.save(member("owner" + i, Role.OWNER));
+            customers.add(memberRepository.save(member("customer" + i, Role.USER)));
+            stores.add(storeRepository.save(store("store" + i, owner)));
+        }
+
+        store = stores.get(0);
+        customer = customers.get(0);
+
+        for (int i = 0; i < ROWS; i++) {
+            reservationRepository.save(Reservation.builder()
+                    .store(store)
+                    .member(customers.get(i))
+                    .visitorNum(1)
+                    .status(ReservationStatus.WAITING)
+                    .reservationDate(LocalDateTime.now().plusDays(1))
+                    .build());
+            reviewRepository.save(review(store, customers.get(i)));
+            reviewRepository.save(review(stores.get(i), customer));
+        }
+    }
+
+    @Test
+    void storeList() throws Exception {
+        assertStatementCount(get("/api/v1/stores").param("limit", String.valueOf(ROWS)));
+        assertStatementCount(get("/api/v1/stores")
+                .param("sortType", "rating")
+                .param("limit", String.valueOf(ROWS)));
+    }
+
+    @Test
+    void reservationListByStore() throws Exception {
+        assertStatementCount(get("/api/v1/reservations/store/{storeId}", store.getId()));
+    }
+
+    @Test
+    void reviewListByStore() throws Exception {
+        assertStatementCount(get("/api/v1/reviews/store/{storeId}", store.getId()));
+    }
+
+    @Test
+    void reviewListByMember() throws Exception {
+        assertStatementCount(get("/api/v1/reviews/member/{memberId}", customer.getId()));
+    }
+
+    private void assertStatementCount(MockHttpServletRequestBuilder request) throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    private Member member(String username, Role role) {
+        return Member.builder()
+                .username(username)
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .role(role)
+                .build();
+    }
+
+    private Store store(String storeName, Member owner) {
+        return Store.builder()
+                .storeName(storeName)
+                .storeAddress("서울특별시 중구 세종대로 110")
+                .member(owner)
+                .capacityPerson(10)
+                .rating(0.0)
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .build();
+    }
+
+    private Review review(Store store, Member member) {
+        return Review.builder()
+                .store(store)
+                .member(member)
+                .content("좋아요")
+                .rating(5.0)
+                .build();
+    }
+}
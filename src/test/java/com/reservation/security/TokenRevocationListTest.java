@@ -0,0 +1,128 @@
+package com.reservation.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.impl.DefaultClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationListTest {
+
+    private final TokenRevocationList tokenRevocationList =
+            new TokenRevocationList(new SimpleMeterRegistry(), Duration.ofDays(14));
+
+    @Test
+    void revokeSingleToken() {
+        Claims revoked = claims(1L, -1_000, 60_000);
+        Claims other = claims(1L, -1_000, 60_000);
+
+        assertThat(tokenRevocationList.revoke(revoked)).isTrue();
+        assertThat(tokenRevocationList.revoke(revoked)).isFalse();
+
+        assertThat(tokenRevocationList.isRevoked(revoked)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(other)).isFalse();
+    }
+
+    @Test
+    void concurrentRevoke_onlyOneSucceeds() throws Exception {
+        Claims refreshToken = claims(1L, -1_000, 60_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return tokenRevocationList.revoke(refreshToken);
+                }));
+            }
+            start.countDown();
+
+            int revoked = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    revoked++;
+                }
+            }
+
+            assertThat(revoked).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void revokeAllTokensIssuedBeforePasswordChange() {
+        Claims issuedBefore = claims(1L, -60_000, 60_000);
+        Claims otherMember = claims(2L, -60_000, 60_000);
+
+        tokenRevocationList.revokeAll(1L);
+
+        assertThat(tokenRevocationList.isRevoked(issuedBefore)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(otherMember)).isFalse();
+        assertThat(tokenRevocationList.isRevoked(claims(1L, 2_000, 60_000))).isFalse();
+    }
+
+    @Test
+    void revokeAll_tokenIssuedRightAfter_staysValid() {
+        Claims issuedBefore = claimsAt(1L, tokenRevocationList.nextTimestamp());
+        tokenRevocationList.revokeAll(1L);
+        Claims issuedAfter = claimsAt(1L, tokenRevocationList.nextTimestamp());
+
+        assertThat(tokenRevocationList.isRevoked(issuedBefore)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(issuedAfter)).isFalse();
+    }
+
+    @Test
+    void revokeAll_tokenWithoutMillis_comparedBySecond() {
+        Claims legacy = claims(1L, -60_000, 60_000);
+        legacy.remove(TokenRevocationList.ISSUED_AT_MILLIS);
+
+        tokenRevocationList.revokeAll(1L);
+
+        assertThat(tokenRevocationList.isRevoked(legacy)).isTrue();
+    }
+
+    @Test
+    void purgeExpiredBuckets() {
+        tokenRevocationList.revoke(claims(1L, -600_000, -120_000));
+        tokenRevocationList.revoke(claims(1L, -1_000, 600_000));
+
+        tokenRevocationList.purgeExpired();
+
+        assertThat(tokenRevocationList.revokedTokenCount()).isEqualTo(1);
+    }
+
+    private static Claims claims(Long memberId, long issuedAtOffsetMillis, long expiresInMillis) {
+        long now = System.currentTimeMillis();
+        Claims claims = claimsAt(memberId, now + issuedAtOffsetMillis);
+        claims.setExpiration(new Date(now + expiresInMillis));
+        return claims;
+    }
+
+    /**
+     * TokenProvider 와 같이 iat 는 초 단위, 밀리초 발급 시각은 따로
+     */
+    private static Claims claimsAt(Long memberId, long issuedAtMillis) {
+        Claims claims = new DefaultClaims();
+        claims.setId(UUID.randomUUID().toString());
+        claims.put("memberId", memberId);
+        claims.put(TokenRevocationList.ISSUED_AT_MILLIS, issuedAtMillis);
+        claims.setIssuedAt(new Date(TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(issuedAtMillis))));
+        claims.setExpiration(new Date(issuedAtMillis + 60_000));
+        return claims;
+    }
+}
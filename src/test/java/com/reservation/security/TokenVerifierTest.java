@@ -0,0 +1,48 @@
+package com.reservation.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenVerifierTest {
+
+    private final TokenVerifier tokenVerifier =
+            new TokenVerifier("test-jwt-secret", Duration.ofSeconds(30), 100);
+
+    @Test
+    void verifyValidTokenOnceAndFromCache() {
+        String token = token(tokenVerifier, 60_000);
+
+        Claims claims = tokenVerifier.verify(token);
+
+        assertThat(claims.getSubject()).isEqualTo("user");
+        assertThat(tokenVerifier.verify(token)).isSameAs(claims);
+    }
+
+    @Test
+    void rejectTokenSignedWithOtherSecret() {
+        TokenVerifier otherVerifier = new TokenVerifier("other-jwt-secret", Duration.ZERO, 0);
+
+        assertThat(tokenVerifier.verify(token(otherVerifier, 60_000))).isNull();
+    }
+
+    @Test
+    void rejectExpiredToken() {
+        assertThat(tokenVerifier.verify(token(tokenVerifier, -1_000))).isNull();
+    }
+
+    private static String token(TokenVerifier signer, long expiresInMillis) {
+        return Jwts.builder()
+                .claim("role", "USER")
+                .setSubject("user")
+                .setExpiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .signWith(SignatureAlgorithm.HS256, signer.getSigningKey())
+                .compact();
+    }
+}
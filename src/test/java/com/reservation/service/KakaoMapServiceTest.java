@@ -0,0 +1,140 @@
+package com.reservation.service;
+
+import com.reservation.config.KakaoClientConfig;
+import com.reservation.exception.KakaoException;
+import com.reservation.type.ErrorCode;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 서버로 카카오 주소 검색 API 호출 확인
+ */
+class KakaoMapServiceTest {
+
+    private static final String FOUND_RESPONSE = "{\"documents\":[{\"x\":\"126.9780\",\"y\":\"37.5665\"}]}";
+    private static final String NOT_FOUND_RESPONSE = "{\"documents\":[]}";
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final CountDownLatch slowResponse = new CountDownLatch(1);
+
+    private HttpServer stubServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/v2/local/search/address.json", exchange -> {
+            requestCount.incrementAndGet();
+            String query = exchange.getRequestURI().getQuery();
+
+            if (query.contains("느린")) {
+                awaitQuietly(slowResponse);
+            }
+
+            byte[] body = (query.contains("없는") ? NOT_FOUND_RESPONSE : FOUND_RESPONSE)
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowResponse.countDown();
+        stubServer.stop(0);
+    }
+
+    @Test
+    void geocodeFromStubServerAndCacheResult() {
+        KakaoMapService kakaoMapService = kakaoMapService(Duration.ofSeconds(3), 16);
+
+        double[] location = kakaoMapService.getDistanceFromAddressAsync("서울특별시 중구 세종대로 110").join();
+        kakaoMapService.getDistanceFromAddressAsync("  서울특별시  중구 세종대로 110 ").join();
+
+        assertThat(location).containsExactly(37.5665, 126.9780);
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void addressNotFound() {
+        KakaoMapService kakaoMapService = kakaoMapService(Duration.ofSeconds(3), 16);
+
+        assertThatThrownBy(() -> kakaoMapService.getDistanceFromAddressAsync("없는 주소").join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOfSatisfying(KakaoException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ADDRESS_NOT_FOUND));
+    }
+
+    @Test
+    void readTimeout() {
+        KakaoMapService kakaoMapService = kakaoMapService(Duration.ofMillis(200), 16);
+
+        assertThatThrownBy(() -> kakaoMapService.getDistanceFromAddressAsync("느린 주소").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    void rejectWhenConcurrentCallsExceeded() {
+        KakaoMapService kakaoMapService = kakaoMapService(Duration.ofSeconds(3), 1);
+
+        CompletableFuture<double[]> inFlight = kakaoMapService.getDistanceFromAddressAsync("느린 주소 1");
+
+        assertThatThrownBy(() -> kakaoMapService.getDistanceFromAddressAsync("느린 주소 2").join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOfSatisfying(KakaoException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.GEOCODING_UNAVAILABLE));
+
+        slowResponse.countDown();
+        assertThat(inFlight.join()).containsExactly(37.5665, 126.9780);
+    }
+
+    private KakaoMapService kakaoMapService(Duration readTimeout, int maxConcurrentCalls) {
+        return new KakaoMapService(
+                null,
+                new KakaoClientConfig().kakaoHttpClient(Duration.ofSeconds(1), 2),
+                new SimpleMeterRegistry(),
+                "http://localhost:" + stubServer.getAddress().getPort() + "/v2/local/search/address.json",
+                "test-kakao-api-key",
+                readTimeout,
+                maxConcurrentCalls,
+                100,
+                Duration.ofDays(30),
+                Duration.ofMinutes(10),
+                false
+        );
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
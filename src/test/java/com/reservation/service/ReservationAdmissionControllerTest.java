@@ -0,0 +1,104 @@
+package com.reservation.service;
+
+import com.reservation.domain.ReservationSlot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시에 많은 예약이 들어와도 시간대 수용인원을 넘지 않는지 확인
+ */
+class ReservationAdmissionControllerTest {
+
+    private static final int THREADS = 32;
+    private static final int BOOKINGS = 500;
+    private static final int CAPACITY = 100;
+
+    private final ReservationAdmissionController admissionController =
+            new ReservationAdmissionController(null);
+
+    private final LocalDateTime slotTime = ReservationSlot.slotOf(LocalDateTime.now().plusDays(1));
+
+    @Test
+    void parallelBookingsNeverExceedCapacity() throws Exception {
+        AtomicInteger admittedVisitors = new AtomicInteger();
+
+        runInParallel(i -> {
+            int visitorNum = i % 3 + 1;
+            if (admissionController.tryAdmit(1L, slotTime, visitorNum, CAPACITY)) {
+                admittedVisitors.addAndGet(visitorNum);
+            }
+        });
+
+        assertThat(admittedVisitors.get()).isLessThanOrEqualTo(CAPACITY);
+        assertThat(admissionController.reservedNum(1L, slotTime)).isEqualTo(admittedVisitors.get());
+    }
+
+    @Test
+    void parallelBookingsAndCancellationsKeepCapacity() throws Exception {
+        AtomicInteger reservedVisitors = new AtomicInteger();
+
+        runInParallel(i -> {
+            if (admissionController.tryAdmit(1L, slotTime, 1, CAPACITY)) {
+                reservedVisitors.incrementAndGet();
+
+                if (i % 2 == 0) {
+                    admissionController.release(1L, slotTime, 1);
+                    reservedVisitors.decrementAndGet();
+                }
+            }
+            assertThat(admissionController.reservedNum(1L, slotTime)).isLessThanOrEqualTo(CAPACITY);
+        });
+
+        assertThat(admissionController.reservedNum(1L, slotTime)).isEqualTo(reservedVisitors.get());
+    }
+
+    @Test
+    void slotsAreCountedSeparately() {
+        LocalDateTime nextSlot = slotTime.plusHours(1);
+
+        assertThat(admissionController.tryAdmit(1L, slotTime, CAPACITY, CAPACITY)).isTrue();
+        assertThat(admissionController.tryAdmit(1L, slotTime, 1, CAPACITY)).isFalse();
+        assertThat(admissionController.tryAdmit(1L, nextSlot, 1, CAPACITY)).isTrue();
+        assertThat(admissionController.tryAdmit(2L, slotTime, 1, CAPACITY)).isTrue();
+    }
+
+    private void runInParallel(Booking booking) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < BOOKINGS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    booking.run(index);
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Booking {
+        void run(int index);
+    }
+}
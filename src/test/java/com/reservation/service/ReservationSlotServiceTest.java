@@ -0,0 +1,183 @@
+package com.reservation.service;
+
+import com.reservation.domain.Member;
+import com.reservation.domain.ReservationSlot;
+import com.reservation.domain.Store;
+import com.reservation.dto.reservation.ReservationDto;
+import com.reservation.dto.reservation.UpdateReservationDto;
+import com.reservation.exception.ReservationException;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.ReservationRepository;
+import com.reservation.repository.ReservationSlotRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.type.ErrorCode;
+import com.reservation.type.ReservationStatus;
+import com.reservation.type.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 메모리 카운터와 DB 장부(reservation_slot)가 함께 수용인원을 지키는지 확인
+ * 수용인원이 찬 시간대의 예약도 수정할 수 있고, 롤백되면 카운터가 되돌아오는지 확인
+ * 예약 수정, 거절은 읽은 버전이 그대로일 때만 반영되는지 확인
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:reservation-slot-test;"
+        + "MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+class ReservationSlotServiceTest {
+
+    private static final int CAPACITY = 4;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationSlotService reservationSlotService;
+
+    @Autowired
+    private ReservationAdmissionController reservationAdmissionController;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    private final LocalDateTime reservationDate = LocalDateTime.now().plusDays(1).withHour(12).withMinute(0)
+            .withSecond(0).withNano(0);
+
+    private Member customer;
+    private Member otherCustomer;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        reservationSlotRepository.deleteAll();
+        storeRepository.deleteAll();
+        memberRepository.deleteAll();
+        reservationAdmissionController.reconcile();
+
+        Member owner = memberRepository.save(member("owner", Role.OWNER));
+        customer = memberRepository.save(member("customer", Role.USER));
+        otherCustomer = memberRepository.save(member("other-customer", Role.USER));
+
+        store = storeRepository.save(Store.builder()
+                .storeName("store")
+                .storeAddress("서울특별시 중구 세종대로 110")
+                .member(owner)
+                .capacityPerson(CAPACITY)
+                .rating(0.0)
+                .build());
+    }
+
+    @Test
+    void updateReservation_inFullSlot() {
+        Long reservationId = reserve(customer, CAPACITY).getReservationId();
+        assertReserved(CAPACITY);
+
+        reservationService.reservationUpdate(reservationId, new UpdateReservationDto(CAPACITY, reservationDate));
+        assertReserved(CAPACITY);
+
+        reservationService.reservationUpdate(reservationId, new UpdateReservationDto(CAPACITY - 1, null));
+        assertReserved(CAPACITY - 1);
+    }
+
+    @Test
+    void reserve_fullSlot_rejected() {
+        reserve(customer, CAPACITY);
+
+        assertThatThrownBy(() -> reserve(otherCustomer, 1))
+                .isInstanceOfSatisfying(ReservationException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_CAPACITY_OVER));
+        assertReserved(CAPACITY);
+    }
+
+    @Test
+    void release_rolledBack_restoresCounter() {
+        reserve(customer, CAPACITY);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            reservationSlotService.release(store, reservationDate, CAPACITY);
+            status.setRollbackOnly();
+        });
+
+        assertReserved(CAPACITY);
+        assertThatThrownBy(() -> reserve(otherCustomer, 1))
+                .isInstanceOf(ReservationException.class);
+    }
+
+    @Test
+    void rejectAfterUpdate_releasesUpdatedSeats() {
+        Long reservationId = reserve(customer, CAPACITY).getReservationId();
+        reservationService.reservationUpdate(reservationId, new UpdateReservationDto(2, null));
+
+        reservationService.rejectReservation(reservationId);
+
+        assertReserved(0);
+    }
+
+    @Test
+    void staleVersion_notUpdated() {
+        Long reservationId = reserve(customer, CAPACITY).getReservationId();
+        Long readVersion = reservationRepository.findById(reservationId).orElseThrow().getVersion();
+
+        reservationService.reservationUpdate(reservationId, new UpdateReservationDto(2, null));
+
+        int updated = transactionTemplate.execute(status -> reservationRepository.updateStatus(
+                reservationId, readVersion, ReservationStatus.REJECTION.allowedFrom(),
+                ReservationStatus.REJECTION, LocalDateTime.now()
+        ));
+
+        assertThat(updated).isZero();
+        assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.WAITING);
+        assertReserved(2);
+    }
+
+    private ReservationDto.Response reserve(Member member, int visitorNum) {
+        return reservationService.createReservation(ReservationDto.Request.builder()
+                .memberId(member.getId())
+                .storeId(store.getId())
+                .visitorNum(visitorNum)
+                .reservationDate(reservationDate)
+                .build());
+    }
+
+    /**
+     * DB 장부와 메모리 카운터의 예약 인원이 모두 reservedNum 인지 확인
+     */
+    private void assertReserved(int reservedNum) {
+        LocalDateTime slotTime = ReservationSlot.slotOf(reservationDate);
+
+        assertThat(reservationSlotRepository.findAllBySlotTimeGreaterThanEqual(slotTime))
+                .extracting(ReservationSlot::getReservedNum)
+                .containsExactly(reservedNum);
+        assertThat(reservationAdmissionController.reservedNum(store.getId(), slotTime)).isEqualTo(reservedNum);
+    }
+
+    private static Member member(String username, Role role) {
+        return Member.builder()
+                .username(username)
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.reservation.service;
+
+import com.reservation.domain.Member;
+import com.reservation.domain.Reservation;
+import com.reservation.domain.Review;
+import com.reservation.domain.Store;
+import com.reservation.dto.store.UpdateStoreDto;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.ReservationRepository;
+import com.reservation.repository.ReviewRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.security.TokenProvider;
+import com.reservation.type.ReservationStatus;
+import com.reservation.type.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 여러 번 조회하는 서비스 메서드가 트랜잭션 하나(커넥션 하나)로 처리되는지 확인
+ * 서비스에 트랜잭션이 없으면 저장소 호출마다 커넥션을 따로 가져오고, 수정은 merge 로 다시 조회
+ */
+@SpringBootTest
+class ServiceTransactionBoundaryTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private StoreGeoIndex storeGeoIndex;
+
+    private Statistics statistics;
+    private Member owner;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        reviewRepository.deleteAll();
+        reservationRepository.deleteAll();
+        storeRepository.deleteAll();
+        memberRepository.deleteAll();
+
+        owner = memberRepository.save(member("owner", Role.OWNER));
+        Member customer = memberRepository.save(member("customer", Role.USER));
+
+        store = storeRepository.save(Store.builder()
+                .storeName("store")
+                .storeAddress("서울특별시 중구 세종대로 110")
+                .member(owner)
+                .capacityPerson(10)
+                .rating(0.0)
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .build());
+
+        reservationRepository.save(Reservation.builder()
+                .store(store)
+                .member(customer)
+                .visitorNum(1)
+                .status(ReservationStatus.WAITING)
+                .reservationDate(LocalDateTime.now().plusDays(1))
+                .build());
+
+        reviewRepository.save(Review.builder()
+                .store(store)
+                .member(customer)
+                .content("좋아요")
+                .rating(5.0)
+                .build());
+    }
+
+    @Test
+    void reservationListByStore_usesOneConnectionPerCall() {
+        statistics.clear();
+
+        reservationService.getReservationsByStoreId(store.getId(), null);
+        reservationService.getReservationsByStoreId(store.getId(), LocalDateTime.now().plusDays(1).toLocalDate());
+
+        assertThat(statistics.getConnectCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void reviewListByStore_usesOneConnection() {
+        statistics.clear();
+
+        reviewService.getReviewsByStoreId(store.getId(), "recent", null, 20);
+
+        assertThat(statistics.getConnectCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void updateStore_updatesByDirtyChecking() {
+        statistics.clear();
+
+        storeService.updateStore(store.getId(), UpdateStoreDto.builder()
+                .capacityPerson(20)
+                .build());
+
+        assertThat(statistics.getConnectCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(storeRepository.findById(store.getId()).orElseThrow().getCapacityPerson())
+                .isEqualTo(20);
+    }
+
+    @Test
+    void updateStore_withoutAddressChange_keepsIndexedLocation() {
+        // 수정 중에 좌표 조회 결과가 먼저 커밋되어 인덱스에 반영된 상황
+        storeGeoIndex.put(store.getId(), 37.4979, 127.0276);
+
+        storeService.updateStore(store.getId(), UpdateStoreDto.builder()
+                .storeName("renamed")
+                .build());
+
+        assertThat(storeGeoIndex.findNearest(37.4979, 127.0276, 1))
+                .singleElement()
+                .satisfies(neighbor -> {
+                    assertThat(neighbor.storeId()).isEqualTo(store.getId());
+                    assertThat(neighbor.distanceKm()).isZero();
+                });
+    }
+
+    @Test
+    void deleteMember_rolledBack_keepsTokens() {
+        String accessToken = tokenProvider.generateTokens(owner.getId(), owner.getUsername(), owner.getRole())
+                .getAccessToken();
+
+        // 가게를 가진 점주는 외래 키 때문에 커밋 시 삭제 실패
+        assertThatThrownBy(() -> memberService.deleteMember(owner.getId()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(memberRepository.existsById(owner.getId())).isTrue();
+        assertThat(tokenProvider.verifyAccessToken(accessToken)).isNotNull();
+    }
+
+    private Member member(String username, Role role) {
+        return Member.builder()
+                .username(username)
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.reservation.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 격자 인덱스의 가까운 가게 조회가 전체 가게를 하버사인 거리로 정렬한 결과와 같은지 확인
+ * 임의의 위치(극지방, 날짜변경선 부근 포함), 반경, 커서로 이어 조회, 가게 추가/삭제/이동 후 조회
+ */
+class StoreGeoIndexTest {
+
+    private static final int QUERIES = 30;
+    private static final int MAX_PAGES = 20;
+
+    private final Random random = new Random(20241017L);
+    private final Map<Long, double[]> locations = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        locations.clear();
+    }
+
+    @Test
+    void findNearest_denseCatalog_matchesBruteForce() {
+        StoreGeoIndex index = new StoreGeoIndex(null, 0.01);
+        putRandom(index, 1_000, false);
+
+        assertMatchesBruteForce(index, false, 0.01);
+
+        updateRandom(index, 200, false);
+        assertMatchesBruteForce(index, false, 0.01);
+    }
+
+    @Test
+    void findNearest_globalCatalog_matchesBruteForce() {
+        StoreGeoIndex index = new StoreGeoIndex(null, 1.0);
+        putRandom(index, 500, true);
+
+        assertMatchesBruteForce(index, true, 1.0);
+
+        updateRandom(index, 200, true);
+        assertMatchesBruteForce(index, true, 1.0);
+    }
+
+    @Test
+    void findNearest_farFromCatalog() {
+        StoreGeoIndex index = new StoreGeoIndex(null, 0.01);
+        putRandom(index, 1_000, false);
+
+        for (double[] user : new double[][]{{-89, 0}, {89.99, 127}, {40.7, -74.0}, {37.5, -179.99}}) {
+            assertThat(index.findNearest(user[0], user[1], 21, null, null))
+                    .isEqualTo(bruteForce(user[0], user[1], 21, null, null));
+        }
+    }
+
+    @Test
+    void findNearest_allStores_sortedWithoutCellSearch() {
+        StoreGeoIndex index = new StoreGeoIndex(null, 0.01);
+        putRandom(index, 100, false);
+
+        List<StoreGeoIndex.Neighbor> all = index.findNearest(37.5, 127.0, 100);
+        assertThat(all).isEqualTo(bruteForce(37.5, 127.0, 100, null, null));
+
+        StoreGeoIndex.Neighbor after = all.get(49);
+        assertThat(index.findNearest(37.5, 127.0, 100, null, after))
+                .isEqualTo(all.subList(50, 100));
+    }
+
+    @Test
+    void remove_excludedFromResults() {
+        StoreGeoIndex index = new StoreGeoIndex(null, 0.01);
+        index.put(1L, 37.5665, 126.9780);
+        index.put(2L, 37.5670, 126.9790);
+        index.put(2L, null, null);
+        index.remove(1L);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.findNearest(37.5665, 126.9780, 10)).isEmpty();
+    }
+
+    /**
+     * 임의의 사용자 위치에서 limit 개씩 커서로 끝까지 조회한 결과가 전체 정렬 결과와 같은지 확인
+     */
+    private void assertMatchesBruteForce(StoreGeoIndex index, boolean global, double cellSizeDegrees) {
+        for (int query = 0; query < QUERIES; query++) {
+            double[] user = randomLocation(global || query % 3 == 0);
+            if (query % 10 == 0) {
+                user[0] = query % 20 == 0 ? 89.95 : -89.95;
+            }
+
+            int limit = 1 + random.nextInt(20);
+            Double radiusKm = query % 2 == 0
+                    ? null
+                    : random.nextDouble() * (global ? 5_000 : 100 * cellSizeDegrees / 0.01);
+
+            StoreGeoIndex.Neighbor after = null;
+            for (int page = 0; page < MAX_PAGES; page++) {
+                List<StoreGeoIndex.Neighbor> expected = bruteForce(user[0], user[1], limit, radiusKm, after);
+                List<StoreGeoIndex.Neighbor> actual = index.findNearest(user[0], user[1], limit, radiusKm, after);
+
+                assertThat(actual)
+                        .as("lat = %s, lng = %s, limit = %s, radius = %s, after = %s",
+                                user[0], user[1], limit, radiusKm, after)
+                        .isEqualTo(expected);
+
+                if (actual.size() < limit) {
+                    break;
+                }
+                after = actual.get(actual.size() - 1);
+            }
+        }
+    }
+
+    private List<StoreGeoIndex.Neighbor> bruteForce(
+            double latitude, double longitude, int limit, Double radiusKm, StoreGeoIndex.Neighbor after
+    ) {
+        List<StoreGeoIndex.Neighbor> neighbors = new ArrayList<>();
+
+        locations.forEach((storeId, location) -> {
+            double distance = StoreGeoIndex.distanceKm(latitude, longitude, location[0], location[1]);
+
+            if ((radiusKm == null || distance <= radiusKm) && StoreGeoIndex.isAfter(storeId, distance, after)) {
+                neighbors.add(new StoreGeoIndex.Neighbor(storeId, distance));
+            }
+        });
+
+        neighbors.sort(StoreGeoIndex.NEAREST_ORDER);
+        return neighbors.subList(0, Math.min(limit, neighbors.size()));
+    }
+
+    private void putRandom(StoreGeoIndex index, int count, boolean global) {
+        for (long storeId = 1; storeId <= count; storeId++) {
+            put(index, storeId, randomLocation(global));
+        }
+    }
+
+    /**
+     * 임의의 가게를 삭제하거나 다른 위치로 옮김
+     */
+    private void updateRandom(StoreGeoIndex index, int count, boolean global) {
+        List<Long> storeIds = new ArrayList<>(locations.keySet());
+
+        for (int i = 0; i < count; i++) {
+            Long storeId = storeIds.get(random.nextInt(storeIds.size()));
+
+            if (random.nextBoolean()) {
+                index.remove(storeId);
+                locations.remove(storeId);
+            } else {
+                put(index, storeId, randomLocation(global));
+            }
+        }
+    }
+
+    private void put(StoreGeoIndex index, Long storeId, double[] location) {
+        index.put(storeId, location[0], location[1]);
+        locations.put(storeId, location);
+    }
+
+    /**
+     * 전 세계 또는 서울 부근 (한 변 약 0.5도) 임의 위치
+     */
+    private double[] randomLocation(boolean global) {
+        return global
+                ? new double[]{-90 + 180 * random.nextDouble(), -180 + 360 * random.nextDouble()}
+                : new double[]{37.3 + 0.5 * random.nextDouble(), 126.7 + 0.5 * random.nextDouble()};
+    }
+}
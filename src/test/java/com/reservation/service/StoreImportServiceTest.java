@@ -0,0 +1,269 @@
+package com.reservation.service;
+
+import com.reservation.domain.Member;
+import com.reservation.domain.Store;
+import com.reservation.dto.store.StoreImportDto;
+import com.reservation.exception.StoreException;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.type.ErrorCode;
+import com.reservation.type.GeocodeStatus;
+import com.reservation.type.Role;
+import com.reservation.type.StoreImportFormat;
+import com.reservation.type.StoreImportJobStatus;
+import com.reservation.type.StoreImportStatus;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 로컬 카카오 스텁 서버로 가게 일괄 등록 확인
+ * 새 가게는 좌표와 함께 등록되고, 중복, 잘못된 행은 건너뛰고, 좌표를 못 찾은 가게는 좌표 없이 등록
+ * 일괄 등록 작업은 백그라운드에서 진행되고, 좌표 조회가 일시적으로 실패한 가게는 다시 조회하도록 PENDING 으로 등록
+ * max-size 를 넘는 본문은 접수하지 않고, 작업은 접수한 회원만 조회 가능
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:store-import-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.store.import.chunk-size=2",
+        "spring.store.import.max-size=1KB"
+})
+class StoreImportServiceTest {
+
+    private static final String FOUND_RESPONSE = "{\"documents\":[{\"x\":\"126.9780\",\"y\":\"37.5665\"}]}";
+    private static final String NOT_FOUND_RESPONSE = "{\"documents\":[]}";
+
+    private static final HttpServer stubServer = startStubServer();
+
+    @Autowired
+    private StoreImportService storeImportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    private Member owner;
+
+    @DynamicPropertySource
+    static void kakaoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.kakao.geocoding-url", () ->
+                "http://localhost:" + stubServer.getAddress().getPort() + "/v2/local/search/address.json");
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        storeRepository.deleteAll();
+        memberRepository.deleteAll();
+
+        owner = memberRepository.save(Member.builder()
+                .username("import-owner")
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .role(Role.OWNER)
+                .build());
+
+        storeRepository.save(Store.builder()
+                .storeName("기존 가게")
+                .storeAddress("서울특별시 중구 세종대로 110")
+                .member(owner)
+                .rating(0.0)
+                .capacityPerson(4)
+                .build());
+    }
+
+    @Test
+    void importStores_csv_reportsEachRow() {
+        String csv = "\uFEFFstoreName,storeAddress,description,capacityPerson\n"
+                + "새 가게,서울특별시 중구 세종대로 110,\"파스타, 피자\",4\n"
+                + "새 가게,서울특별시 중구 세종대로 110,,4\n"
+                + "기존 가게,서울특별시 중구 세종대로 110,,4\n"
+                + "인원 오류,서울특별시 중구 세종대로 110,,넷\n"
+                + "\n"
+                + "주소 없는 가게,없는 주소,,2\n";
+
+        StoreImportDto.Response response = storeImportService.importStores(
+                owner.getId(), StoreImportFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))
+        );
+
+        assertThat(response.getResults())
+                .extracting(StoreImportDto.Result::getLine, StoreImportDto.Result::getStatus)
+                .containsExactly(
+                        tuple(2, StoreImportStatus.CREATED),
+                        tuple(3, StoreImportStatus.DUPLICATE),
+                        tuple(4, StoreImportStatus.DUPLICATE),
+                        tuple(5, StoreImportStatus.INVALID),
+                        tuple(7, StoreImportStatus.CREATED)
+                );
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getDuplicated()).isEqualTo(2);
+        assertThat(response.getInvalid()).isEqualTo(1);
+
+        Store created = storeRepository.findById(response.getResults().get(0).getShopId()).orElseThrow();
+        assertThat(created.getDescription()).isEqualTo("파스타, 피자");
+        assertThat(created.getLatitude()).isEqualTo(37.5665);
+        assertThat(created.getLongitude()).isEqualTo(126.9780);
+
+        StoreImportDto.Result notLocated = response.getResults().get(4);
+        assertThat(notLocated.isLocated()).isFalse();
+        assertThat(storeRepository.findById(notLocated.getShopId()).orElseThrow().getLatitude()).isNull();
+    }
+
+    @Test
+    void importStores_ndjson() {
+        String ndjson = "{\"storeName\":\"NDJSON 가게\",\"storeAddress\":\"서울특별시 중구 세종대로 110\",\"capacityPerson\":6}\n"
+                + "{\"storeName\":\"\",\"storeAddress\":\"서울특별시 중구 세종대로 110\",\"capacityPerson\":6}\n"
+                + "{not json}\n";
+
+        StoreImportDto.Response response = storeImportService.importStores(
+                owner.getId(), StoreImportFormat.NDJSON,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))
+        );
+
+        assertThat(response.getResults())
+                .extracting(StoreImportDto.Result::getStatus)
+                .containsExactly(StoreImportStatus.CREATED, StoreImportStatus.INVALID, StoreImportStatus.INVALID);
+
+        List<Store> stores = storeRepository.findAll();
+        assertThat(stores).extracting(Store::getStoreName).containsExactlyInAnyOrder("기존 가게", "NDJSON 가게");
+    }
+
+    @Test
+    void submitImport_runsInBackground() throws InterruptedException {
+        String csv = "storeName,storeAddress,description,capacityPerson\n"
+                + "작업 가게,서울특별시 중구 세종대로 110,,4\n"
+                + "장애 가게,장애 주소,,2\n"
+                + "작업 가게,서울특별시 중구 세종대로 110,,4\n";
+
+        StoreImportDto.Job submitted = storeImportService.submitImport(
+                owner.getId(), StoreImportFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))
+        );
+        assertThat(submitted.getJobId()).isNotBlank();
+
+        StoreImportDto.Job job = awaitJob(submitted.getJobId());
+        assertThat(job.getStatus()).isEqualTo(StoreImportJobStatus.COMPLETED);
+        assertThat(job.getProcessed()).isEqualTo(3);
+
+        StoreImportDto.Response response = job.getResult();
+        assertThat(response.getResults())
+                .extracting(StoreImportDto.Result::getStatus, StoreImportDto.Result::getGeocodeStatus)
+                .containsExactly(
+                        tuple(StoreImportStatus.CREATED, GeocodeStatus.LOCATED),
+                        tuple(StoreImportStatus.CREATED, GeocodeStatus.PENDING),
+                        tuple(StoreImportStatus.DUPLICATE, null)
+                );
+
+        Store pending = storeRepository.findById(response.getResults().get(1).getShopId()).orElseThrow();
+        assertThat(pending.getGeocodeStatus()).isEqualTo(GeocodeStatus.PENDING);
+        assertThat(pending.getGeocodeAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void submitImport_invalidHeader_jobFails() throws InterruptedException {
+        StoreImportDto.Job submitted = storeImportService.submitImport(
+                owner.getId(), StoreImportFormat.CSV,
+                new ByteArrayInputStream("name,address\n".getBytes(StandardCharsets.UTF_8))
+        );
+
+        StoreImportDto.Job job = awaitJob(submitted.getJobId());
+        assertThat(job.getStatus()).isEqualTo(StoreImportJobStatus.FAILED);
+        assertThat(job.getMessage()).isEqualTo(ErrorCode.INVALID_IMPORT_FILE.getDescription());
+    }
+
+    @Test
+    void submitImport_tooLarge_rejected() {
+        StringBuilder csv = new StringBuilder("storeName,storeAddress,description,capacityPerson\n");
+        while (csv.length() <= 1024) {
+            csv.append("큰 가게,서울특별시 중구 세종대로 110,,4\n");
+        }
+
+        assertThatThrownBy(() -> storeImportService.submitImport(
+                owner.getId(), StoreImportFormat.CSV,
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8))
+        )).isInstanceOfSatisfying(StoreException.class,
+                e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_IMPORT_FILE));
+        assertThat(storeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void getImportJob_unknown() {
+        assertThatThrownBy(() -> storeImportService.getImportJob("unknown", owner.getId()))
+                .isInstanceOfSatisfying(StoreException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.STORE_IMPORT_JOB_NOT_FOUND));
+    }
+
+    @Test
+    void getImportJob_otherMember_notFound() throws InterruptedException {
+        Member otherOwner = memberRepository.save(Member.builder()
+                .username("import-other-owner")
+                .password("password")
+                .phoneNumber("010-0000-0001")
+                .role(Role.OWNER)
+                .build());
+
+        StoreImportDto.Job submitted = storeImportService.submitImport(
+                owner.getId(), StoreImportFormat.CSV,
+                new ByteArrayInputStream("name,address\n".getBytes(StandardCharsets.UTF_8))
+        );
+        awaitJob(submitted.getJobId());
+
+        assertThatThrownBy(() -> storeImportService.getImportJob(submitted.getJobId(), otherOwner.getId()))
+                .isInstanceOfSatisfying(StoreException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.STORE_IMPORT_JOB_NOT_FOUND));
+    }
+
+    private StoreImportDto.Job awaitJob(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        StoreImportDto.Job job = storeImportService.getImportJob(jobId, owner.getId());
+
+        while ((job.getStatus() == StoreImportJobStatus.QUEUED || job.getStatus() == StoreImportJobStatus.RUNNING)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            job = storeImportService.getImportJob(jobId, owner.getId());
+        }
+        return job;
+    }
+
+    private static HttpServer startStubServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/v2/local/search/address.json", exchange -> {
+                String query = exchange.getRequestURI().getQuery();
+                byte[] body = (query.contains("없는") ? NOT_FOUND_RESPONSE : FOUND_RESPONSE)
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(query.contains("장애") ? 500 : 200, body.length);
+                try (OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
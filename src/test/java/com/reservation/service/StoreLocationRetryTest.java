@@ -0,0 +1,143 @@
+package com.reservation.service;
+
+import com.reservation.domain.Member;
+import com.reservation.domain.Store;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.type.GeocodeStatus;
+import com.reservation.type.Role;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌표 재조회 스케줄 작업이 카카오 API 응답을 기다리지 않고 바로 돌아오는지 확인
+ * (스케줄러 스레드를 잡고 있으면 다른 스케줄 작업이 밀림)
+ * 응답이 오면 가게 좌표가 반영되고, 진행 중에는 다음 재조회를 시작하지 않음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:store-location-retry-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.store.geocode-retry.interval=PT1H",
+        "spring.store.geocode-retry.delay=PT0S"
+})
+class StoreLocationRetryTest {
+
+    private static final long RESPONSE_DELAY_MILLIS = 1_000;
+    private static final String FOUND_RESPONSE = "{\"documents\":[{\"x\":\"126.9780\",\"y\":\"37.5665\"}]}";
+
+    private static final AtomicInteger requests = new AtomicInteger();
+    private static final HttpServer stubServer = startStubServer();
+
+    @Autowired
+    private StoreLocationService storeLocationService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    private Store store;
+
+    @DynamicPropertySource
+    static void kakaoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.kakao.geocoding-url", () ->
+                "http://localhost:" + stubServer.getAddress().getPort() + "/v2/local/search/address.json");
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        storeRepository.deleteAll();
+        memberRepository.deleteAll();
+
+        Member owner = memberRepository.save(Member.builder()
+                .username("retry-owner")
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .role(Role.OWNER)
+                .build());
+
+        store = storeRepository.save(Store.builder()
+                .storeName("재조회 가게")
+                .storeAddress("서울특별시 중구 세종대로 " + System.nanoTime())
+                .member(owner)
+                .rating(0.0)
+                .capacityPerson(4)
+                .build());
+
+        // updatedAt 이 재조회 기준 시각보다 앞서도록
+        Thread.sleep(10);
+        requests.set(0);
+    }
+
+    @Test
+    void retryPendingLocations_doesNotWaitForGeocoding() throws InterruptedException {
+        long start = System.nanoTime();
+        storeLocationService.retryPendingLocations();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMillis).isLessThan(RESPONSE_DELAY_MILLIS);
+
+        // 진행 중인 재조회가 있으면 같은 가게를 다시 조회하지 않음
+        storeLocationService.retryPendingLocations();
+
+        Store located = awaitLocated();
+        assertThat(located.getGeocodeStatus()).isEqualTo(GeocodeStatus.LOCATED);
+        assertThat(located.getLatitude()).isEqualTo(37.5665);
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    private Store awaitLocated() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        Store current = storeRepository.findById(store.getId()).orElseThrow();
+
+        while (current.getGeocodeStatus() == GeocodeStatus.PENDING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            current = storeRepository.findById(store.getId()).orElseThrow();
+        }
+        return current;
+    }
+
+    private static HttpServer startStubServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/v2/local/search/address.json", exchange -> {
+                requests.incrementAndGet();
+                try {
+                    Thread.sleep(RESPONSE_DELAY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                byte[] body = FOUND_RESPONSE.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
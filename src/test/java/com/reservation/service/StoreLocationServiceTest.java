@@ -0,0 +1,60 @@
+package com.reservation.service;
+
+import com.reservation.domain.Store;
+import com.reservation.exception.KakaoException;
+import com.reservation.type.ErrorCode;
+import com.reservation.type.GeocodeStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌표 조회 결과에 따른 가게 조회 상태 변경 확인
+ * 일시적인 실패는 PENDING 으로 남아 다시 조회되고, 재시도 횟수를 넘으면 FAILED
+ */
+class StoreLocationServiceTest {
+
+    private final StoreLocationService storeLocationService = new StoreLocationService(
+            null, null, null, null, Runnable::run, 2, Duration.ofMinutes(5), 100
+    );
+
+    @Test
+    void applyResult_located() {
+        Store store = Store.builder().build();
+
+        storeLocationService.applyResult(store, new double[]{37.5665, 126.9780}, null);
+
+        assertThat(store.getGeocodeStatus()).isEqualTo(GeocodeStatus.LOCATED);
+        assertThat(store.getLatitude()).isEqualTo(37.5665);
+        assertThat(store.getLongitude()).isEqualTo(126.9780);
+    }
+
+    @Test
+    void applyResult_addressNotFound() {
+        Store store = Store.builder().build();
+
+        storeLocationService.applyResult(store, null,
+                new CompletionException(new KakaoException(ErrorCode.ADDRESS_NOT_FOUND)));
+
+        assertThat(store.getGeocodeStatus()).isEqualTo(GeocodeStatus.NOT_FOUND);
+        assertThat(store.getGeocodeAttempts()).isZero();
+    }
+
+    @Test
+    void applyResult_transientFailure_retriesUntilMaxAttempts() {
+        Store store = Store.builder().build();
+        CompletionException unavailable =
+                new CompletionException(new KakaoException(ErrorCode.GEOCODING_UNAVAILABLE));
+
+        storeLocationService.applyResult(store, null, unavailable);
+        assertThat(store.getGeocodeStatus()).isEqualTo(GeocodeStatus.PENDING);
+        assertThat(store.getGeocodeAttempts()).isEqualTo(1);
+
+        storeLocationService.applyResult(store, null, unavailable);
+        assertThat(store.getGeocodeStatus()).isEqualTo(GeocodeStatus.FAILED);
+        assertThat(store.getLatitude()).isNull();
+    }
+}
@@ -0,0 +1,100 @@
+package com.reservation.service;
+
+import com.reservation.domain.Member;
+import com.reservation.domain.Store;
+import com.reservation.repository.MemberRepository;
+import com.reservation.repository.StoreRepository;
+import com.reservation.type.Role;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시(caffeine.conf)를 켠 상태에서 리뷰 평점 반영이 해당 가게의 캐시만 바꾸는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:store-rating-cache-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=classpath:caffeine.conf",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail"
+})
+class StoreRatingCacheTest {
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Store ratedStore;
+    private Store otherStore;
+
+    @BeforeEach
+    void setUp() {
+        storeRepository.deleteAll();
+        memberRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+
+        Member owner = memberRepository.save(Member.builder()
+                .username("rating-owner")
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .role(Role.OWNER)
+                .build());
+
+        ratedStore = storeRepository.save(store("평점 가게", owner));
+        otherStore = storeRepository.save(store("다른 가게", owner));
+    }
+
+    @Test
+    void addStoreRating_keepsOtherStoresCached() {
+        storeRepository.findById(ratedStore.getId()).orElseThrow();
+        storeRepository.findById(otherStore.getId()).orElseThrow();
+
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(Store.class, otherStore.getId())).isTrue();
+
+        storeService.addStoreRating(ratedStore.getId(), 4.0, 1);
+        storeService.addStoreRating(ratedStore.getId(), 2.0, 1);
+
+        assertThat(cache.contains(Store.class, otherStore.getId())).isTrue();
+
+        Store rated = storeRepository.findById(ratedStore.getId()).orElseThrow();
+        assertThat(rated.getReviewCount()).isEqualTo(2);
+        assertThat(rated.getRatingSum()).isEqualTo(6.0);
+        assertThat(rated.getRating()).isEqualTo(3.0);
+    }
+
+    @Test
+    void addStoreRating_lastReviewRemoved() {
+        storeService.addStoreRating(ratedStore.getId(), 5.0, 1);
+        storeService.addStoreRating(ratedStore.getId(), -5.0, -1);
+
+        Store rated = storeRepository.findById(ratedStore.getId()).orElseThrow();
+        assertThat(rated.getReviewCount()).isZero();
+        assertThat(rated.getRating()).isEqualTo(0.0);
+    }
+
+    private static Store store(String storeName, Member owner) {
+        return Store.builder()
+                .storeName(storeName)
+                .storeAddress("서울특별시 중구 세종대로 110")
+                .member(owner)
+                .rating(0.0)
+                .capacityPerson(4)
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.reservation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.domain.Member;
+import com.reservation.dto.store.StoreDto;
+import com.reservation.repository.MemberRepository;
+import com.reservation.type.Role;
+import com.reservation.util.NdjsonWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 가게 스트리밍(스트리밍 전용 커넥션 풀)이 행 수와 관계없이 일정한 메모리만 사용하는지 확인
+ * 전송 중 일정 간격으로 GC 후 힙 사용량을 재서 시작 시점보다 크게 늘지 않는지 확인
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:streaming-memory-test;"
+        + "MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=1")
+class StoreStreamingMemoryTest {
+
+    private static final int ROWS = 100_000;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int SAMPLE_INTERVAL = 10_000;
+    private static final long MAX_RETAINED_BYTES = 8L * 1024 * 1024;
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM store");
+
+        Member owner = memberRepository.save(Member.builder()
+                .username("streaming-owner-" + System.nanoTime())
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .role(Role.OWNER)
+                .build());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{i + 1L, "store-" + i, "address-" + i, 4, 4.5, 9.0, 2, owner.getId(), now, now});
+            if (batch.size() == BATCH_SIZE) {
+                insertStores(batch);
+                batch.clear();
+            }
+        }
+        insertStores(batch);
+    }
+
+    @Test
+    void streamStoreSummaries_retainsConstantHeap() throws IOException {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        CountingOutputStream outputStream = new CountingOutputStream();
+        AtomicLong rows = new AtomicLong();
+        long baseline = usedHeapAfterGc(memoryBean);
+        long[] peak = {baseline};
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+
+        try (NdjsonWriter<StoreDto.Summary> writer = new NdjsonWriter<>(objectMapper, outputStream)) {
+            storeService.streamStoreSummaries(summary -> {
+                writer.accept(summary);
+                if (rows.incrementAndGet() % SAMPLE_INTERVAL == 0) {
+                    peak[0] = Math.max(peak[0], usedHeapAfterGc(memoryBean));
+                }
+            });
+        }
+
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertThat(rows.get()).isEqualTo(ROWS);
+        assertThat(outputStream.count).isPositive();
+        assertThat(peak[0] - baseline)
+                .as("retained heap growth while streaming %d rows (%d bytes written, %d bytes allocated)",
+                        ROWS, outputStream.count, allocated)
+                .isLessThan(MAX_RETAINED_BYTES);
+    }
+
+    private void insertStores(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO store (id, store_name, store_address, capacity_person, "
+                + "rating, rating_sum, review_count, member_id, created_at, updated_at, "
+                + "geocode_status, geocode_attempts) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'NOT_FOUND', 0)", batch);
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memoryBean) {
+        System.gc();
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * 응답 대신 쓰인 바이트 수만 세는 출력 스트림
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.reservation.service;
+
+import com.reservation.domain.Member;
+import com.reservation.dto.store.StoreDto;
+import com.reservation.repository.MemberRepository;
+import com.reservation.type.Role;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 전체 가게 스트리밍이 스트리밍 전용 커넥션 풀에서만 읽는지 확인
+ * 전송 중에는 일반 풀 커넥션을 쓰지 않고, 전용 풀이 가득 차면 기다리지 않고 실패
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:streaming-test;"
+                + "MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=1",
+        "spring.datasource.streaming.fetch-size=100",
+        "spring.datasource.streaming.hikari.maximum-pool-size=1",
+        "spring.datasource.streaming.hikari.connection-timeout=250"
+})
+class StoreStreamingTest {
+
+    private static final int ROWS = 2_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    @Qualifier("streamingDataSource")
+    private HikariDataSource streamingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM store");
+
+        Member owner = memberRepository.save(Member.builder()
+                .username("streaming-owner-" + System.nanoTime())
+                .password("password")
+                .phoneNumber("010-0000-0000")
+                .role(Role.OWNER)
+                .build());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{i + 1L, "store-" + i, "address-" + i, 4, 4.5, 9.0, 2, owner.getId(), now, now});
+            if (batch.size() == BATCH_SIZE) {
+                insertStores(batch);
+                batch.clear();
+            }
+        }
+        insertStores(batch);
+    }
+
+    @Test
+    void streamStoreSummaries_usesOnlyStreamingPool() {
+        AtomicLong rows = new AtomicLong();
+        AtomicLong lastShopId = new AtomicLong();
+
+        storeService.streamStoreSummaries(summary -> {
+            if (rows.incrementAndGet() == 1) {
+                assertThat(dataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+                assertThat(streamingDataSource.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+            }
+            assertThat(summary.getShopId()).isGreaterThan(lastShopId.get());
+            lastShopId.set(summary.getShopId());
+        });
+
+        assertThat(rows.get()).isEqualTo(ROWS);
+        assertThat(streamingDataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+    }
+
+    @Test
+    void streamStoreSummaries_streamingPoolFull_failsFast() {
+        List<StoreDto.Summary> first = new ArrayList<>();
+
+        storeService.streamStoreSummaries(summary -> {
+            if (first.isEmpty()) {
+                assertThatThrownBy(() -> storeService.streamStoreSummaries(other -> { }))
+                        .isInstanceOf(CannotGetJdbcConnectionException.class);
+            }
+            first.add(summary);
+        });
+
+        assertThat(first).hasSize(ROWS);
+    }
+
+    private void insertStores(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO store (id, store_name, store_address, capacity_person, "
+                + "rating, rating_sum, review_count, member_id, created_at, updated_at, "
+                + "geocode_status, geocode_attempts) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'NOT_FOUND', 0)", batch);
+    }
+}